@@ -0,0 +1,58 @@
+package com.lolgg.bench;
+
+import com.lolgg.LolGgApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Boots the application context against a {@link FakeRiotServer}, with local state in a temp directory.
+ */
+public final class BenchmarkApp {
+
+    private BenchmarkApp() {}
+
+    public static ConfigurableApplicationContext start(FakeRiotServer riot, Map<String, Object> overrides) {
+        return start(riot, overrides, WebApplicationType.NONE);
+    }
+
+    /**
+     * With {@link WebApplicationType#SERVLET} the app listens on a random port, see {@link #port}.
+     */
+    public static ConfigurableApplicationContext start(FakeRiotServer riot, Map<String, Object> overrides,
+                                                       WebApplicationType webApplicationType) {
+        Path dataDir;
+        try {
+            dataDir = Files.createTempDirectory("lolgg-bench");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("riot.api.key", "bench");
+        properties.put("riot.api.asia-url", riot.baseUrl());
+        properties.put("riot.api.kr-url", riot.baseUrl());
+        properties.put("riot.rate-limit.app-limits", "1000000:1");
+        properties.put("riot.match-store.path", dataDir.resolve("match-store.seg").toString());
+        properties.put("riot.account-cache.snapshot-path", dataDir.resolve("account-cache.snapshot").toString());
+        properties.put("logging.level.root", "WARN");
+        properties.put("server.port", 0);
+        properties.putAll(overrides);
+
+        return new SpringApplicationBuilder(LolGgApplication.class)
+                .web(webApplicationType)
+                .properties(properties)
+                .run();
+    }
+
+    public static int port(ConfigurableApplicationContext context) {
+        return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+}
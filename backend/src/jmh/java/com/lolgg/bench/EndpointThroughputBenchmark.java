@@ -0,0 +1,94 @@
+package com.lolgg.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load test for {@code /api/tiers} and {@code /api/matches} with and without virtual threads.
+ * Tomcat is capped at 50 platform threads and every Riot call takes 50ms, so blocking
+ * request handling saturates the pool while virtual threads keep accepting work.
+ * <p>
+ * {@code ./gradlew jmh -PjmhIncludes=EndpointThroughputBenchmark}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 20)
+@Fork(1)
+@Threads(200)
+@State(Scope.Benchmark)
+public class EndpointThroughputBenchmark {
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private FakeRiotServer riot;
+    private ConfigurableApplicationContext context;
+    private String baseUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        riot = new FakeRiotServer(50);
+        context = BenchmarkApp.start(riot, Map.of(
+                "spring.threads.virtual.enabled", virtualThreads,
+                "server.tomcat.threads.max", 50
+        ), WebApplicationType.SERVLET);
+        baseUrl = "http://127.0.0.1:" + BenchmarkApp.port(context);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        riot.close();
+    }
+
+    @Benchmark
+    public int matches() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(
+                baseUrl + "/api/matches/load-puuid-" + sequence.incrementAndGet() + "?count=10")).build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @Benchmark
+    public int tiers() throws IOException, InterruptedException {
+        StringJoiner puuids = new StringJoiner(",", "[", "]");
+        long base = sequence.addAndGet(10);
+        for (int i = 0; i < 10; i++) {
+            puuids.add("\"load-tier-puuid-" + (base + i) + "\"");
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/tiers"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(puuids.toString()))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,321 @@
+package com.lolgg.bench;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Local stand-in for the Riot endpoints the app calls, for benchmarks and load/soak tests.
+ * <p>
+ * Payloads are generated: match IDs are derived from the puuid, so every distinct puuid has its
+ * own (uncached) history, and each Riot ID resolves to its own account. Like Riot, it enforces
+ * app and method rate limits with fixed windows, reports them in the {@code X-App-Rate-Limit}
+ * / {@code X-Method-Rate-Limit} (+{@code -Count}) headers and answers over-limit calls with
+ * {@code 429}, {@code Retry-After} and {@code X-Rate-Limit-Type}. On top of that it can add
+ * latency and inject 5xx and service 429 faults.
+ * <p>
+ * Standalone: {@code ./gradlew fakeRiot -PfakeRiotArgs="--port=8089 --latency-ms=40 --error-rate=0.02"},
+ * then start the app with {@code riot.api.asia-url} / {@code riot.api.kr-url} pointing at it.
+ */
+public final class FakeRiotServer implements AutoCloseable {
+
+    private static final String TEMPLATE_MATCH_ID = "KR_TEMPLATE";
+    private static final int HISTORY_SIZE = 200;
+
+    /**
+     * @param appLimits    Riot-style spec such as {@code "20:1,100:120"}; empty for no limit
+     * @param methodLimits same, applied to each endpoint separately
+     * @param errorRate    share of calls answered with a 5xx
+     * @param throttleRate share of calls answered with a service 429 (no {@code Retry-After})
+     */
+    public record Options(int port, long latencyMs, long jitterMs, String appLimits, String methodLimits,
+                          double errorRate, double throttleRate) {
+
+        public static Options latency(long latencyMs) {
+            return new Options(0, latencyMs, 0, "", "", 0, 0);
+        }
+
+        public Options withJitter(long jitterMs) {
+            return new Options(port, latencyMs, jitterMs, appLimits, methodLimits, errorRate, throttleRate);
+        }
+
+        public Options withLimits(String appLimits, String methodLimits) {
+            return new Options(port, latencyMs, jitterMs, appLimits, methodLimits, errorRate, throttleRate);
+        }
+
+        public Options withFaults(double errorRate, double throttleRate) {
+            return new Options(port, latencyMs, jitterMs, appLimits, methodLimits, errorRate, throttleRate);
+        }
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                int idx = arg.indexOf('=');
+                if (arg.startsWith("--") && idx > 2) values.put(arg.substring(2, idx), arg.substring(idx + 1));
+            }
+            return new Options(
+                    Integer.parseInt(values.getOrDefault("port", "8089")),
+                    Long.parseLong(values.getOrDefault("latency-ms", "30")),
+                    Long.parseLong(values.getOrDefault("jitter-ms", "20")),
+                    values.getOrDefault("app-limits", "20:1,100:120"),
+                    values.getOrDefault("method-limits", ""),
+                    Double.parseDouble(values.getOrDefault("error-rate", "0")),
+                    Double.parseDouble(values.getOrDefault("throttle-rate", "0")));
+        }
+    }
+
+    public record Stats(long requests, long ok, long rateLimited, long throttled, long serverErrors) {}
+
+    private final Options options;
+    private final HttpServer server;
+    private final String matchTemplate = MatchFixtures.matchJson(TEMPLATE_MATCH_ID);
+    private final Limits appLimits;
+    private final Map<String, Limits> methodLimits = new ConcurrentHashMap<>();
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong ok = new AtomicLong();
+    private final AtomicLong rateLimited = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong serverErrors = new AtomicLong();
+
+    public FakeRiotServer(long latencyMs) {
+        this(Options.latency(latencyMs));
+    }
+
+    public FakeRiotServer(Options options) {
+        this.options = options;
+        this.appLimits = new Limits(options.appLimits());
+        try {
+            this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", options.port()), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Options options = Options.parse(args);
+        try (FakeRiotServer riot = new FakeRiotServer(options)) {
+            System.out.println("Fake Riot API listening on " + riot.baseUrl() + " " + options);
+            while (true) {
+                TimeUnit.SECONDS.sleep(10);
+                System.out.println(riot.stats());
+            }
+        }
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public Stats stats() {
+        return new Stats(requests.get(), ok.get(), rateLimited.get(), throttled.get(), serverErrors.get());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            long latency = options.latencyMs()
+                    + (options.jitterMs() > 0 ? ThreadLocalRandom.current().nextLong(options.jitterMs() + 1) : 0);
+            if (latency > 0) Thread.sleep(latency);
+
+            String path = exchange.getRequestURI().getPath();
+            String method = methodKey(path);
+            if (method == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            if (!admit(exchange, method)) return;
+
+            double roll = ThreadLocalRandom.current().nextDouble();
+            if (roll < options.errorRate()) {
+                serverErrors.incrementAndGet();
+                exchange.sendResponseHeaders(roll < options.errorRate() / 2 ? 503 : 500, -1);
+                return;
+            }
+            if (roll < options.errorRate() + options.throttleRate()) {
+                throttled.incrementAndGet();
+                exchange.getResponseHeaders().set("X-Rate-Limit-Type", "service");
+                exchange.sendResponseHeaders(429, -1);
+                return;
+            }
+
+            ok.incrementAndGet();
+            respond(exchange, payload(path, exchange.getRequestURI()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Counts the call against the app and method limits, and answers it with {@code 429} if either is full.
+     */
+    private boolean admit(HttpExchange exchange, String method) throws IOException {
+        long now = System.currentTimeMillis();
+        Limits methodLimit = methodLimits.computeIfAbsent(method, m -> new Limits(options.methodLimits()));
+        long appWait = appLimits.tryConsume(now);
+        long methodWait = appWait == 0 ? methodLimit.tryConsume(now) : 0;
+
+        Headers headers = exchange.getResponseHeaders();
+        appLimits.writeHeaders(headers, "X-App-Rate-Limit");
+        methodLimit.writeHeaders(headers, "X-Method-Rate-Limit");
+        if (appWait == 0 && methodWait == 0) return true;
+
+        rateLimited.incrementAndGet();
+        headers.set("Retry-After", String.valueOf(Math.max(1, TimeUnit.MILLISECONDS.toSeconds(appWait + methodWait + 999))));
+        headers.set("X-Rate-Limit-Type", appWait > 0 ? "application" : "method");
+        exchange.sendResponseHeaders(429, -1);
+        return false;
+    }
+
+    private static String methodKey(String path) {
+        if (path.startsWith("/lol/match/v5/matches/by-puuid/")) return "match-ids";
+        if (path.startsWith("/lol/match/v5/matches/")) return "match";
+        if (path.startsWith("/lol/league/v4/entries/by-puuid/")) return "league";
+        if (path.startsWith("/lol/summoner/v4/summoners/by-puuid/")) return "summoner";
+        if (path.startsWith("/riot/account/v1/accounts/by-riot-id/")) return "account";
+        return null;
+    }
+
+    private String payload(String path, URI uri) {
+        String[] segments = path.split("/");
+        return switch (methodKey(path)) {
+            case "match-ids" -> matchIds(segments[6], query(uri));
+            case "match" -> matchTemplate.replace(TEMPLATE_MATCH_ID, segments[5]);
+            case "league" -> leagueEntries(segments[6]);
+            case "summoner" -> "{\"puuid\":\"" + segments[6] + "\",\"profileIconId\":" + (Math.floorMod(segments[6].hashCode(), 5000))
+                    + ",\"summonerLevel\":" + (30 + Math.floorMod(segments[6].hashCode(), 700)) + "}";
+            default -> "{\"puuid\":\"" + segments[6] + "-" + segments[7] + "\",\"gameName\":\""
+                    + segments[6] + "\",\"tagLine\":\"" + segments[7] + "\"}";
+        };
+    }
+
+    private static String matchIds(String puuid, Map<String, String> query) {
+        int start = Integer.parseInt(query.getOrDefault("start", "0"));
+        int count = Integer.parseInt(query.getOrDefault("count", "20"));
+        String prefix = "KR_" + Integer.toHexString(puuid.hashCode()) + "_";
+
+        StringJoiner ids = new StringJoiner(",", "[", "]");
+        for (int i = start; i < Math.min(start + count, HISTORY_SIZE); i++) {
+            ids.add("\"" + prefix + (HISTORY_SIZE - i) + "\"");
+        }
+        return ids.toString();
+    }
+
+    private static String leagueEntries(String puuid) {
+        String[] tier = MatchFixtures.tierFor(puuid).split(" ");
+        return "[{\"queueType\":\"RANKED_SOLO_5x5\",\"tier\":\"" + tier[0] + "\",\"rank\":\"" + tier[1]
+                + "\",\"leaguePoints\":" + Math.floorMod(puuid.hashCode(), 100) + ",\"wins\":120,\"losses\":110}]";
+    }
+
+    private static Map<String, String> query(URI uri) {
+        Map<String, String> params = new HashMap<>();
+        if (uri.getRawQuery() == null) return params;
+        for (String pair : uri.getRawQuery().split("&")) {
+            int idx = pair.indexOf('=');
+            if (idx > 0) params.put(pair.substring(0, idx), pair.substring(idx + 1));
+        }
+        return params;
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=utf-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    /**
+     * Riot-style fixed windows for one limit spec, e.g. {@code "20:1,100:120"}.
+     */
+    private static final class Limits {
+
+        private static final class Window {
+            final int limit;
+            final long lengthMillis;
+            long startMillis;
+            int count;
+
+            Window(int limit, long lengthMillis) {
+                this.limit = limit;
+                this.lengthMillis = lengthMillis;
+            }
+        }
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final String spec;
+        private final List<Window> windows = new ArrayList<>();
+
+        Limits(String spec) {
+            this.spec = spec;
+            if (spec == null || spec.isBlank()) return;
+            for (String part : spec.split(",")) {
+                String[] pair = part.trim().split(":");
+                windows.add(new Window(Integer.parseInt(pair[0]), Long.parseLong(pair[1]) * 1000));
+            }
+        }
+
+        /**
+         * @return 0 if the call was counted, otherwise milliseconds until the fullest window resets
+         */
+        long tryConsume(long now) {
+            lock.lock();
+            try {
+                long wait = 0;
+                for (Window w : windows) {
+                    if (now >= w.startMillis + w.lengthMillis) {
+                        w.startMillis = now;
+                        w.count = 0;
+                    }
+                    if (w.count >= w.limit) wait = Math.max(wait, w.startMillis + w.lengthMillis - now);
+                }
+                if (wait == 0) {
+                    for (Window w : windows) w.count++;
+                }
+                return wait;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void writeHeaders(Headers headers, String name) {
+            if (windows.isEmpty()) return;
+            StringJoiner counts = new StringJoiner(",");
+            lock.lock();
+            try {
+                for (Window w : windows) counts.add(w.count + ":" + w.lengthMillis / 1000);
+            } finally {
+                lock.unlock();
+            }
+            headers.set(name, spec);
+            headers.set(name + "-Count", counts.toString());
+        }
+    }
+}
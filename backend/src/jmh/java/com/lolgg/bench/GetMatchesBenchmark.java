@@ -0,0 +1,68 @@
+package com.lolgg.bench;
+
+import com.lolgg.dto.response.MatchResponse;
+import com.lolgg.service.SummonerAggregationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code getMatches} end to end against a local stub Riot server with added latency.
+ * {@code cold} uses a new puuid (and so new match IDs) on every call; {@code warm} repeats one puuid.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GetMatchesBenchmark {
+
+    @Param({"0", "30"})
+    public long latencyMs;
+
+    @Param({"cold", "warm"})
+    public String history;
+
+    private final AtomicLong puuidSequence = new AtomicLong();
+    private FakeRiotServer riot;
+    private ConfigurableApplicationContext context;
+    private SummonerAggregationService aggregationService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        riot = new FakeRiotServer(latencyMs);
+        context = BenchmarkApp.start(riot, Map.of());
+        aggregationService = context.getBean(SummonerAggregationService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        riot.close();
+    }
+
+    @Benchmark
+    public List<MatchResponse> getMatches() {
+        String puuid = "cold".equals(history)
+                ? "bench-puuid-" + puuidSequence.incrementAndGet()
+                : "bench-puuid-warm";
+        return aggregationService.getMatches(puuid, 0, 20, null, null);
+    }
+}
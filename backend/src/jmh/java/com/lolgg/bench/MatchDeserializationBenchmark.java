@@ -0,0 +1,51 @@
+package com.lolgg.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lolgg.client.RiotPayloadParser;
+import com.lolgg.dto.riot.MatchDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full match-v5 payload into {@link MatchDto}: Jackson databind (the previous RestClient path)
+ * against the streaming {@link RiotPayloadParser}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatchDeserializationBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        payload = MatchFixtures.matchJson("KR_1").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public MatchDto jackson() throws IOException {
+        return objectMapper.readValue(payload, MatchDto.class);
+    }
+
+    @Benchmark
+    public MatchDto streaming() throws IOException {
+        return RiotPayloadParser.parseMatch(new ByteArrayInputStream(payload));
+    }
+}
@@ -0,0 +1,230 @@
+package com.lolgg.bench;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds match-v5 payloads shaped like real Riot responses: every participant carries the full
+ * set of stat, ping, perk and challenge fields, most of which the app never reads.
+ */
+public final class MatchFixtures {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String[] CHAMPIONS = {
+            "Ahri", "LeeSin", "Jinx", "Thresh", "Darius", "Orianna", "Vi", "Kaisa", "Nautilus", "Aatrox"
+    };
+    private static final String[] POSITIONS = {"TOP", "JUNGLE", "MIDDLE", "BOTTOM", "UTILITY"};
+    private static final String[] TIERS = {
+            "IRON", "BRONZE", "SILVER", "GOLD", "PLATINUM", "EMERALD", "DIAMOND", "MASTER"
+    };
+    private static final String[] RANKS = {"IV", "III", "II", "I"};
+
+    /** Participant fields present in match-v5 that the app ignores. */
+    private static final String[] EXTRA_PARTICIPANT_INTS = {
+            "allInPings", "assistMePings", "baronKills", "basicPings", "bountyLevel", "champExperience",
+            "championTransform", "commandPings", "consumablesPurchased", "damageDealtToBuildings",
+            "damageDealtToObjectives", "damageDealtToTurrets", "damageSelfMitigated", "dangerPings",
+            "detectorWardsPlaced", "doubleKills", "dragonKills", "enemyMissingPings", "enemyVisionPings",
+            "getBackPings", "goldSpent", "holdPings", "inhibitorKills", "inhibitorTakedowns", "inhibitorsLost",
+            "itemsPurchased", "killingSprees", "largestCriticalStrike", "largestKillingSpree", "largestMultiKill",
+            "longestTimeSpentLiving", "magicDamageDealt", "magicDamageDealtToChampions", "magicDamageTaken",
+            "needVisionPings", "nexusKills", "nexusLost", "nexusTakedowns", "objectivesStolen",
+            "objectivesStolenAssists", "onMyWayPings", "participantId", "pentaKills", "physicalDamageDealt",
+            "physicalDamageDealtToChampions", "physicalDamageTaken", "placement", "playerAugment1",
+            "playerAugment2", "playerAugment3", "playerAugment4", "playerSubteamId", "profileIcon", "pushPings",
+            "quadraKills", "sightWardsBoughtInGame", "spell1Casts", "spell2Casts", "spell3Casts", "spell4Casts",
+            "subteamPlacement", "summoner1Casts", "summoner2Casts", "summonerLevel", "timeCCingOthers",
+            "timePlayed", "totalAllyJungleMinionsKilled", "totalDamageDealt", "totalDamageShieldedOnTeammates",
+            "totalDamageTaken", "totalEnemyJungleMinionsKilled", "totalHeal", "totalHealsOnTeammates",
+            "totalTimeCCDealt", "totalTimeSpentDead", "totalUnitsHealed", "tripleKills", "trueDamageDealt",
+            "trueDamageDealtToChampions", "trueDamageTaken", "turretKills", "turretTakedowns", "turretsLost",
+            "unrealKills", "visionClearedPings", "visionWardsBoughtInGame", "wardsKilled", "wardsPlaced"
+    };
+    private static final String[] EXTRA_PARTICIPANT_BOOLEANS = {
+            "eligibleForProgression", "firstBloodAssist", "firstBloodKill", "firstTowerAssist", "firstTowerKill",
+            "gameEndedInEarlySurrender", "gameEndedInSurrender", "teamEarlySurrendered"
+    };
+    private static final String[] EXTRA_CHALLENGES = {
+            "12AssistStreakCount", "abilityUses", "acesBefore15Minutes", "alliedJungleMonsterKills",
+            "baronTakedowns", "blastConeOppositeOpponentCount", "bountyGold", "buffsStolen",
+            "completeSupportQuestInTime", "controlWardsPlaced", "damagePerMinute", "damageTakenOnTeamPercentage",
+            "dancedWithRiftHerald", "deathsByEnemyChamps", "dodgeSkillShotsSmallWindow", "doubleAces",
+            "dragonTakedowns", "effectiveHealAndShielding", "elderDragonKillsWithOpposingSoul",
+            "elderDragonMultikills", "enemyChampionImmobilizations", "enemyJungleMonsterKills",
+            "epicMonsterKillsNearEnemyJungler", "epicMonsterKillsWithin30SecondsOfSpawn", "epicMonsterSteals",
+            "epicMonsterStolenWithoutSmite", "firstTurretKilled", "flawlessAces", "fullTeamTakedown",
+            "gameLength", "getTakedownsInAllLanesEarlyJungleAsLaner", "hadOpenNexus", "immobilizeAndKillWithAlly",
+            "initialBuffCount", "initialCrabCount", "jungleCsBefore10Minutes", "junglerTakedownsNearDamagedEpicMonster",
+            "kTurretsDestroyedBeforePlatesFall", "kda", "killAfterHiddenWithAlly", "killedChampTookFullTeamDamageSurvived",
+            "killingSprees", "killsNearEnemyTurret", "killsOnOtherLanesEarlyJungleAsLaner",
+            "killsOnRecentlyHealedByAramPack", "killsUnderOwnTurret", "killsWithHelpFromEpicMonster",
+            "knockEnemyIntoTeamAndKill", "landSkillShotsEarlyGame", "laneMinionsFirst10MinutesDelta",
+            "legendaryCount", "lostAnInhibitor", "maxKillDeficit", "mejaisFullStackInTime", "moreEnemyJungleThanOpponent",
+            "multiKillOneSpell", "multiTurretRiftHeraldCount", "multikills", "multikillsAfterAggressiveFlash",
+            "outerTurretExecutesBefore10Minutes", "outnumberedKills", "outnumberedNexusKill", "perfectDragonSoulsTaken",
+            "perfectGame", "pickKillWithAlly", "poroExplosions", "quickCleanse", "quickFirstTurret",
+            "quickSoloKills", "riftHeraldTakedowns", "saveAllyFromDeath", "scuttleCrabKills", "skillshotsDodged",
+            "skillshotsHit", "snowballsHit", "soloBaronKills", "soloKills", "stealthWardsPlaced",
+            "survivedSingleDigitHpCount", "survivedThreeImmobilizesInFight", "takedownOnFirstTurret", "takedowns",
+            "takedownsAfterGainingLevelAdvantage", "takedownsBeforeJungleMinionSpawn", "takedownsFirstXMinutes",
+            "takedownsInAlcove", "takedownsInEnemyFountain", "teamBaronKills", "teamDamagePercentage",
+            "teamElderDragonKills", "teamRiftHeraldKills", "tookLargeDamageSurvived", "turretPlatesTaken",
+            "turretTakedowns", "turretsTakenWithRiftHerald", "twentyMinionsIn3SecondsCount",
+            "twoWardsOneSweeperCount", "unseenRecalls", "visionScoreAdvantageLaneOpponent", "visionScorePerMinute",
+            "wardTakedowns", "wardTakedownsBefore20M", "wardsGuarded"
+    };
+
+    private MatchFixtures() {}
+
+    public static String participantPuuid(int index) {
+        return String.format("fixture-puuid-%02d-%s", index, "x".repeat(60));
+    }
+
+    public static List<String> participantPuuids() {
+        List<String> puuids = new ArrayList<>();
+        for (int i = 0; i < 10; i++) puuids.add(participantPuuid(i));
+        return puuids;
+    }
+
+    /** Raw solo queue tier for a puuid, stable across runs. */
+    public static String tierFor(String puuid) {
+        int h = Math.floorMod(puuid.hashCode(), TIERS.length * RANKS.length);
+        return TIERS[h / RANKS.length] + " " + RANKS[h % RANKS.length];
+    }
+
+    public static String matchJson(String matchId) {
+        try {
+            return MAPPER.writeValueAsString(match(matchId));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static Map<String, Object> match(String matchId) {
+        List<String> puuids = participantPuuids();
+
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("dataVersion", "2");
+        metadata.put("matchId", matchId);
+        metadata.put("participants", puuids);
+
+        List<Map<String, Object>> participants = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            participants.add(participant(i, puuids.get(i)));
+        }
+
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("endOfGameResult", "GameComplete");
+        info.put("gameCreation", 1_760_000_000_000L);
+        info.put("gameDuration", 1_845);
+        info.put("gameEndTimestamp", 1_760_001_900_000L);
+        info.put("gameId", 7_500_000_000L);
+        info.put("gameMode", "CLASSIC");
+        info.put("gameName", "teambuilder-match-7500000000");
+        info.put("gameStartTimestamp", 1_760_000_050_000L);
+        info.put("gameType", "MATCHED_GAME");
+        info.put("gameVersion", "15.20.717.2831");
+        info.put("mapId", 11);
+        info.put("participants", participants);
+        info.put("platformId", "KR");
+        info.put("queueId", 420);
+        info.put("teams", List.of(team(100, true), team(200, false)));
+        info.put("tournamentCode", "");
+
+        Map<String, Object> match = new LinkedHashMap<>();
+        match.put("metadata", metadata);
+        match.put("info", info);
+        return match;
+    }
+
+    private static Map<String, Object> participant(int i, String puuid) {
+        Map<String, Object> p = new LinkedHashMap<>();
+        for (int f = 0; f < EXTRA_PARTICIPANT_INTS.length; f++) {
+            p.put(EXTRA_PARTICIPANT_INTS[f], (i * 37 + f * 101) % 25_000);
+        }
+        for (int f = 0; f < EXTRA_PARTICIPANT_BOOLEANS.length; f++) {
+            p.put(EXTRA_PARTICIPANT_BOOLEANS[f], (i + f) % 3 == 0);
+        }
+        for (int s = 0; s < 12; s++) {
+            p.put("playerScore" + s, 0);
+        }
+        p.put("individualPosition", POSITIONS[i % 5]);
+        p.put("lane", POSITIONS[i % 5]);
+        p.put("role", "SOLO");
+        p.put("summonerId", "fixture-summoner-" + i);
+        p.put("missions", Map.of("playerScore0", 0, "playerScore1", 0, "playerScore2", 0));
+        p.put("perks", perks());
+
+        p.put("puuid", puuid);
+        p.put("summonerName", "");
+        p.put("riotIdGameName", "Fixture Player " + i);
+        p.put("riotIdTagline", "KR" + i);
+        p.put("championName", CHAMPIONS[i]);
+        p.put("championId", 100 + i);
+        p.put("champLevel", 14 + i % 5);
+        p.put("kills", 3 + i);
+        p.put("deaths", 2 + i % 4);
+        p.put("assists", 5 + i % 7);
+        p.put("totalMinionsKilled", 150 + i * 7);
+        p.put("neutralMinionsKilled", i % 5 == 1 ? 140 : 8);
+        p.put("goldEarned", 10_000 + i * 321);
+        p.put("totalDamageDealtToChampions", 15_000 + i * 1_234);
+        p.put("visionScore", 20 + i * 3);
+        for (int item = 0; item < 7; item++) {
+            p.put("item" + item, 3000 + item * 31 + i);
+        }
+        p.put("summoner1Id", 4);
+        p.put("summoner2Id", i % 5 == 1 ? 11 : 14);
+        p.put("win", i < 5);
+        p.put("teamPosition", POSITIONS[i % 5]);
+        p.put("teamId", i < 5 ? 100 : 200);
+        p.put("challenges", challenges(i));
+        return p;
+    }
+
+    private static Map<String, Object> challenges(int i) {
+        Map<String, Object> c = new LinkedHashMap<>();
+        for (int f = 0; f < EXTRA_CHALLENGES.length; f++) {
+            c.put(EXTRA_CHALLENGES[f], f % 4 == 0 ? (i + f) * 0.731 : (i * 13 + f) % 50);
+        }
+        c.put("killParticipation", 0.35 + i * 0.03);
+        c.put("goldPerMinute", 380.5 + i * 9.25);
+        c.put("laneMinionsFirst10Minutes", 60 + i);
+        c.put("maxCsAdvantageOnLaneOpponent", 12.0 - i);
+        c.put("earlyLaningPhaseGoldExpAdvantage", i % 2);
+        c.put("laningPhaseGoldExpAdvantage", (i + 1) % 2);
+        return c;
+    }
+
+    private static Map<String, Object> perks() {
+        Map<String, Object> selection = Map.of("perk", 8010, "var1", 512, "var2", 0, "var3", 0);
+        return Map.of(
+                "statPerks", Map.of("defense", 5001, "flex", 5008, "offense", 5005),
+                "styles", List.of(
+                        Map.of("description", "primaryStyle", "selections",
+                                List.of(selection, selection, selection, selection), "style", 8000),
+                        Map.of("description", "subStyle", "selections",
+                                List.of(selection, selection), "style", 8400)));
+    }
+
+    private static Map<String, Object> team(int teamId, boolean win) {
+        Map<String, Object> objective = Map.of("first", win, "kills", win ? 7 : 3);
+        return Map.of(
+                "bans", List.of(
+                        Map.of("championId", 1, "pickTurn", 1), Map.of("championId", 2, "pickTurn", 2),
+                        Map.of("championId", 3, "pickTurn", 3), Map.of("championId", 4, "pickTurn", 4),
+                        Map.of("championId", 5, "pickTurn", 5)),
+                "objectives", Map.of(
+                        "baron", objective, "champion", objective, "dragon", objective,
+                        "horde", objective, "inhibitor", objective, "riftHerald", objective, "tower", objective),
+                "teamId", teamId,
+                "win", win);
+    }
+}
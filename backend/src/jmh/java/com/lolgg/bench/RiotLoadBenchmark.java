@@ -0,0 +1,147 @@
+package com.lolgg.bench;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mixed profile + match page load through the real HTTP stack, against a {@link FakeRiotServer}
+ * that enforces Riot-style rate limits and, with {@code faults=realistic}, injects jitter,
+ * 5xx and service 429s. Searches are drawn from a pool of {@code players} Riot IDs, so the
+ * profile and match caches see a mix of hits and misses.
+ * <p>
+ * Reports throughput and the latency distribution (SampleTime percentiles); the {@code ok},
+ * {@code rateLimited} and {@code failed} counters break responses down by outcome.
+ * <p>
+ * With {@code nodes > 1} several application contexts run side by side, sharing the in-JVM
+ * remote cache and rate-limit store the way separate instances share Redis; the fake server's
+ * stats then show whether the cluster together stays inside the key's limits.
+ * <p>
+ * {@code virtualThreads=false} runs request handling on Tomcat's platform pool, the mode
+ * before the virtual-thread switch, so one run gives the before/after comparison.
+ * <p>
+ * {@code ./gradlew jmh -PjmhIncludes=RiotLoadBenchmark}
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 15)
+@Measurement(iterations = 3, time = 30)
+@Fork(1)
+@Threads(64)
+@State(Scope.Benchmark)
+public class RiotLoadBenchmark {
+
+    /** Production key limits scaled up 25x, so a run finishes in minutes. */
+    private static final String APP_LIMITS = "500:1,2500:120";
+    private static final String METHOD_LIMITS = "400:10";
+
+    @Param({"none", "realistic"})
+    public String faults;
+
+    @Param({"1000"})
+    public int players;
+
+    @Param({"1", "3"})
+    public int nodes;
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private FakeRiotServer riot;
+    private final List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+    private final List<String> baseUrls = new ArrayList<>();
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Outcomes {
+        public long ok;
+        public long rateLimited;
+        public long failed;
+
+        void record(int status) {
+            if (status < 400) ok++;
+            else if (status == 429) rateLimited++;
+            else failed++;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        FakeRiotServer.Options options = FakeRiotServer.Options.latency(30)
+                .withLimits(APP_LIMITS, METHOD_LIMITS);
+        if ("realistic".equals(faults)) {
+            options = options.withJitter(40).withFaults(0.02, 0.01);
+        }
+        riot = new FakeRiotServer(options);
+
+        Map<String, Object> overrides = new HashMap<>();
+        overrides.put("riot.rate-limit.app-limits", APP_LIMITS);
+        overrides.put("spring.threads.virtual.enabled", virtualThreads);
+        if (nodes > 1) {
+            overrides.put("riot.remote-cache.type", "local");
+            overrides.put("riot.rate-limit.cluster.store", "local");
+        }
+        for (int i = 0; i < nodes; i++) {
+            ConfigurableApplicationContext context = BenchmarkApp.start(riot, overrides, WebApplicationType.SERVLET);
+            contexts.add(context);
+            baseUrls.add("http://127.0.0.1:" + BenchmarkApp.port(context));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.println("\nFake Riot " + riot.stats());
+        contexts.forEach(ConfigurableApplicationContext::close);
+        riot.close();
+    }
+
+    @Benchmark
+    public int profile(Outcomes outcomes) throws IOException, InterruptedException {
+        int player = ThreadLocalRandom.current().nextInt(players);
+        return send("/api/summoner?gameName=load" + player + "&tagLine=KR", outcomes);
+    }
+
+    @Benchmark
+    public int matches(Outcomes outcomes) throws IOException, InterruptedException {
+        int player = ThreadLocalRandom.current().nextInt(players);
+        return send("/api/matches/load" + player + "-KR?count=10", outcomes);
+    }
+
+    private int send(String path, Outcomes outcomes) throws IOException, InterruptedException {
+        String baseUrl = baseUrls.get(ThreadLocalRandom.current().nextInt(baseUrls.size()));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path)).build();
+        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        outcomes.record(status);
+        return status;
+    }
+}
@@ -0,0 +1,172 @@
+package com.lolgg.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lolgg.bench.BenchmarkApp;
+import com.lolgg.bench.MatchFixtures;
+import com.lolgg.bench.FakeRiotServer;
+import com.lolgg.cache.TierCache;
+import com.lolgg.dto.response.MatchResponse;
+import com.lolgg.dto.riot.MatchDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response mapping and tier formatting over a realistic match-v5 fixture. The {@code legacy*}
+ * benchmarks keep the previous string-based tier path for comparison; run with the {@code gc}
+ * profiler to compare allocation per call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatchMappingBenchmark {
+
+    private FakeRiotServer riot;
+    private ConfigurableApplicationContext context;
+    private SummonerAggregationService aggregationService;
+    private MatchDto match;
+    private String subjectPuuid;
+    private List<String> puuids;
+    private Map<String, String> rawTiers;
+    private int tierCode;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        riot = new FakeRiotServer(0);
+        context = BenchmarkApp.start(riot, Map.of());
+        aggregationService = context.getBean(SummonerAggregationService.class);
+
+        match = new ObjectMapper().readValue(MatchFixtures.matchJson("KR_1"), MatchDto.class);
+        puuids = MatchFixtures.participantPuuids();
+        subjectPuuid = puuids.get(3);
+
+        TierCache tierCache = context.getBean(TierCache.class);
+        rawTiers = new HashMap<>();
+        for (String puuid : puuids) {
+            tierCache.get(puuid).join();
+            rawTiers.put(puuid, MatchFixtures.tierFor(puuid));
+        }
+        tierCode = TierCode.of("EMERALD", "II", 42);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        riot.close();
+    }
+
+    @Benchmark
+    public MatchResponse toMatchResponse() {
+        return aggregationService.toMatchResponse(match, subjectPuuid);
+    }
+
+    @Benchmark
+    public String formatTier() {
+        return SummonerAggregationService.formatTier(tierCode);
+    }
+
+    @Benchmark
+    public String calculateAverageTier() {
+        return aggregationService.calculateAverageTier(puuids);
+    }
+
+    @Benchmark
+    public String legacyFormatTier() {
+        return LegacyTiers.formatTier("EMERALD II");
+    }
+
+    @Benchmark
+    public String legacyCalculateAverageTier() {
+        return LegacyTiers.calculateAverageTier(puuids, rawTiers);
+    }
+
+    /**
+     * The string-based tier path as it was before {@link TierCode}.
+     */
+    private static final class LegacyTiers {
+
+        private static final Map<String, Integer> TIER_VALUES = Map.ofEntries(
+                Map.entry("IRON", 1), Map.entry("BRONZE", 2), Map.entry("SILVER", 3),
+                Map.entry("GOLD", 4), Map.entry("PLATINUM", 5), Map.entry("EMERALD", 6),
+                Map.entry("DIAMOND", 7), Map.entry("MASTER", 8),
+                Map.entry("GRANDMASTER", 9), Map.entry("CHALLENGER", 10)
+        );
+
+        private static final Map<String, Integer> RANK_VALUES = Map.of(
+                "IV", 0, "III", 1, "II", 2, "I", 3
+        );
+
+        static String calculateAverageTier(List<String> puuids, Map<String, String> rawTiers) {
+            int totalValue = 0;
+            int count = 0;
+
+            for (String puuid : puuids) {
+                String cached = rawTiers.get(puuid);
+                if (cached == null || "UNRANKED".equals(cached)) continue;
+
+                String[] parts = cached.split(" ");
+                if (parts.length != 2) continue;
+
+                Integer tierVal = TIER_VALUES.get(parts[0]);
+                Integer rankVal = RANK_VALUES.get(parts[1]);
+                if (tierVal == null || rankVal == null) continue;
+
+                totalValue += tierVal * 4 + rankVal;
+                count++;
+            }
+
+            if (count == 0) return null;
+
+            int avg = Math.round((float) totalValue / count);
+            final int finalTierIdx = Math.max(1, Math.min(avg / 4, 10));
+            int rankIdx = avg % 4;
+
+            String tier = TIER_VALUES.entrySet().stream()
+                    .filter(e -> e.getValue() == finalTierIdx)
+                    .map(Map.Entry::getKey)
+                    .findFirst()
+                    .orElse("GOLD");
+
+            if (finalTierIdx >= 8) {
+                return tier.charAt(0) + tier.substring(1).toLowerCase();
+            }
+
+            String[] rankNames = {"IV", "III", "II", "I"};
+            String rank = rankIdx >= 0 && rankIdx < 4 ? rankNames[rankIdx] : "IV";
+
+            Map<String, String> rankToNum = Map.of("I", "1", "II", "2", "III", "3", "IV", "4");
+            return tier.charAt(0) + tier.substring(1).toLowerCase() + " " + rankToNum.getOrDefault(rank, "4");
+        }
+
+        static String formatTier(String rawTier) {
+            if (rawTier == null || "UNRANKED".equals(rawTier)) return null;
+            String[] parts = rawTier.split(" ");
+            if (parts.length != 2) return rawTier;
+            String tier = parts[0].charAt(0) + parts[0].substring(1).toLowerCase();
+            Integer tierVal = TIER_VALUES.get(parts[0]);
+            if (tierVal != null && tierVal >= 8) {
+                return tier;
+            }
+            Map<String, String> rankToNum = Map.of("I", "1", "II", "2", "III", "3", "IV", "4");
+            return tier + " " + rankToNum.getOrDefault(parts[1], parts[1]);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.lolgg.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.lolgg.dto.riot.AccountDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Riot ID → account index. Keys are normalized (trimmed, case-insensitive) the same way
+ * Riot matches Riot IDs, and entries live for {@code ttl-hours} since Riot IDs rarely change.
+ * <p>
+ * The cache is snapshotted to disk on shutdown and reloaded on startup, so a fresh node
+ * doesn't have to re-resolve every popular player through account-v1. With a {@link RemoteCacheStore}
+ * configured, accounts are also shared between nodes, keeping their original fetch time, and a
+ * detected Riot ID change is invalidated everywhere.
+ */
+@Component
+public class AccountCache {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountCache.class);
+
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private record Entry(AccountDto account, long cachedAt) {}
+
+    private final Path snapshotPath;
+    private final Duration ttl;
+    private final Cache<String, Entry> cache;
+    private final Map<String, String> keyByPuuid = new ConcurrentHashMap<>();
+    private final SharedCacheTier<Entry> shared;
+
+    public AccountCache(MeterRegistry meterRegistry,
+                        ObjectProvider<RemoteCacheStore> remoteStore,
+                        @Value("${riot.account-cache.max-size:100000}") long maxSize,
+                        @Value("${riot.account-cache.ttl-hours:24}") long ttlHours,
+                        @Value("${riot.account-cache.snapshot-path:data/account-cache.snapshot}") Path snapshotPath) {
+        this.snapshotPath = snapshotPath;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new EntryExpiry(ttl))
+                .removalListener((String key, Entry entry, RemovalCause cause) -> {
+                    if (entry != null && cause != RemovalCause.REPLACED) {
+                        keyByPuuid.remove(entry.account().puuid(), key);
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "accounts");
+        this.shared = new SharedCacheTier<>(remoteStore.getIfAvailable(), "accounts", new EntryCodec(), meterRegistry);
+        shared.onInvalidation(cache::invalidate);
+    }
+
+    public static String key(String gameName, String tagLine) {
+        return gameName.strip().toLowerCase(Locale.ROOT) + "#" + tagLine.strip().toLowerCase(Locale.ROOT);
+    }
+
+    public Optional<AccountDto> get(String gameName, String tagLine) {
+        String key = key(gameName, tagLine);
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null) {
+            entry = shared.get(key);
+            if (entry == null) return Optional.empty();
+            put(key, entry);
+        }
+        return Optional.of(entry.account());
+    }
+
+    public void put(String gameName, String tagLine, AccountDto account) {
+        String key = key(gameName, tagLine);
+        Entry entry = new Entry(account, System.currentTimeMillis());
+        put(key, entry);
+        shared.put(key, entry, ttl);
+    }
+
+    /**
+     * Drops the cached account for {@code puuid} if Riot reported a different Riot ID for it
+     * after the entry was cached (e.g. from a newer match). Older observations are ignored.
+     */
+    public void checkRiotId(String puuid, String gameName, String tagLine, long observedAt) {
+        if (puuid == null || gameName == null || tagLine == null) return;
+        String cachedKey = keyByPuuid.get(puuid);
+        if (cachedKey == null || cachedKey.equals(key(gameName, tagLine))) return;
+
+        Entry entry = cache.getIfPresent(cachedKey);
+        if (entry != null && entry.cachedAt() < observedAt) {
+            log.info("Riot ID changed for puuid {}, invalidating cached account", puuid.substring(0, 8));
+            cache.invalidate(cachedKey);
+            keyByPuuid.remove(puuid, cachedKey);
+            shared.invalidate(cachedKey);
+        }
+    }
+
+    @PostConstruct
+    void loadSnapshot() {
+        if (!Files.exists(snapshotPath)) return;
+
+        long now = System.currentTimeMillis();
+        int loaded = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+            if (in.readInt() != SNAPSHOT_VERSION) return;
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String key = in.readUTF();
+                AccountDto account = new AccountDto(in.readUTF(), in.readUTF(), in.readUTF());
+                long cachedAt = in.readLong();
+                if (now - cachedAt < ttl.toMillis()) {
+                    put(key, new Entry(account, cachedAt));
+                    loaded++;
+                }
+            }
+            log.info("Loaded {} accounts from snapshot {}", loaded, snapshotPath);
+        } catch (IOException e) {
+            log.warn("Failed to load account snapshot {} - {}", snapshotPath, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void saveSnapshot() {
+        Map<String, Entry> entries = Map.copyOf(cache.asMap());
+        try {
+            if (snapshotPath.getParent() != null) Files.createDirectories(snapshotPath.getParent());
+            Path tmp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeInt(entries.size());
+                for (Map.Entry<String, Entry> e : entries.entrySet()) {
+                    AccountDto account = e.getValue().account();
+                    out.writeUTF(e.getKey());
+                    out.writeUTF(account.puuid());
+                    out.writeUTF(Objects.toString(account.gameName(), ""));
+                    out.writeUTF(Objects.toString(account.tagLine(), ""));
+                    out.writeLong(e.getValue().cachedAt());
+                }
+            }
+            Files.move(tmp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Saved {} accounts to snapshot {}", entries.size(), snapshotPath);
+        } catch (IOException e) {
+            log.warn("Failed to save account snapshot {} - {}", snapshotPath, e.getMessage());
+        }
+    }
+
+    private void put(String key, Entry entry) {
+        cache.put(key, entry);
+        keyByPuuid.put(entry.account().puuid(), key);
+    }
+
+    private static final class EntryCodec implements SharedCacheTier.Codec<Entry> {
+
+        @Override
+        public byte[] encode(Entry entry) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeUTF(entry.account().puuid());
+                out.writeUTF(Objects.toString(entry.account().gameName(), ""));
+                out.writeUTF(Objects.toString(entry.account().tagLine(), ""));
+                out.writeLong(entry.cachedAt());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return bytes.toByteArray();
+        }
+
+        @Override
+        public Entry decode(byte[] bytes) {
+            try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+                if (in.readInt() != SNAPSHOT_VERSION) return null;
+                AccountDto account = new AccountDto(in.readUTF(), in.readUTF(), in.readUTF());
+                return new Entry(account, in.readLong());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+
+    /** Entries expire {@code ttl} after they were first fetched, including across restarts. */
+    private record EntryExpiry(Duration ttl) implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            long age = System.currentTimeMillis() - entry.cachedAt();
+            return Math.max(0, ttl.minusMillis(age).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.lolgg.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * Stand-in for Redis when running a single node, in tests and in benchmarks. The data and the
+ * invalidation channel are shared by every instance in the JVM, so several application contexts
+ * started side by side behave like separate nodes sharing one remote cache. Bounded to
+ * {@value #MAX_ENTRIES} entries.
+ */
+public class InMemoryRemoteCacheStore implements RemoteCacheStore {
+
+    private record Value(byte[] bytes, long expiresAt) {}
+
+    private record Subscriber(InMemoryRemoteCacheStore node, BiConsumer<String, String> listener) {}
+
+    private static final long MAX_ENTRIES = 200_000;
+
+    private static final Cache<String, Value> DATA = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfter(Expiry.creating((String id, Value value) ->
+                    Duration.ofMillis(Math.max(0, value.expiresAt() - System.currentTimeMillis()))))
+            .build();
+    private static final List<Subscriber> SUBSCRIBERS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public byte[] get(String namespace, String key) {
+        Value value = DATA.getIfPresent(id(namespace, key));
+        return value != null && value.expiresAt() > System.currentTimeMillis() ? value.bytes() : null;
+    }
+
+    @Override
+    public void put(String namespace, String key, byte[] value, Duration ttl) {
+        DATA.put(id(namespace, key), new Value(value, System.currentTimeMillis() + ttl.toMillis()));
+    }
+
+    @Override
+    public void delete(String namespace, String key) {
+        DATA.invalidate(id(namespace, key));
+    }
+
+    @Override
+    public void publishInvalidation(String namespace, String key) {
+        for (Subscriber subscriber : SUBSCRIBERS) {
+            if (subscriber.node() != this) subscriber.listener().accept(namespace, key);
+        }
+    }
+
+    @Override
+    public void subscribeInvalidations(BiConsumer<String, String> listener) {
+        SUBSCRIBERS.add(new Subscriber(this, listener));
+    }
+
+    /**
+     * Stops delivering invalidations to this node, e.g. when its application context closes.
+     */
+    public void close() {
+        SUBSCRIBERS.removeIf(subscriber -> subscriber.node() == this);
+    }
+
+    private static String id(String namespace, String key) {
+        return namespace + ':' + key;
+    }
+}
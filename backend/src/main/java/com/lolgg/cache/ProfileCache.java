@@ -0,0 +1,123 @@
+package com.lolgg.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lolgg.dto.response.SummonerResponse;
+import com.lolgg.service.SummonerAggregationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Assembled {@link SummonerResponse} per Riot ID, served stale-while-revalidate.
+ * <p>
+ * An entry older than {@code soft-ttl-seconds} is still returned immediately, and one background
+ * refresh is started for it. Entries older than {@code hard-ttl-minutes} are never served and
+ * block on a fresh load. Each entry carries a content ETag and the time its content last changed,
+ * so unchanged profiles can be answered with {@code 304}.
+ * <p>
+ * Loads run as futures on {@code riotExecutor} rather than inside the cache's map compute, so a
+ * virtual thread waiting on a cold profile is never pinned to its carrier.
+ */
+@Component
+public class ProfileCache {
+
+    public record Entry(SummonerResponse profile, String etag, Instant lastModified) {}
+
+    private record Key(String gameName, String tagLine) {}
+
+    private final SummonerAggregationService aggregationService;
+    private final ObjectMapper objectMapper;
+    private final AsyncLoadingCache<Key, Entry> cache;
+
+    public ProfileCache(SummonerAggregationService aggregationService,
+                        ObjectMapper objectMapper,
+                        @Qualifier("riotExecutor") ExecutorService riotExecutor,
+                        MeterRegistry meterRegistry,
+                        @Value("${riot.profile-cache.max-size:20000}") long maxSize,
+                        @Value("${riot.profile-cache.soft-ttl-seconds:120}") long softTtlSeconds,
+                        @Value("${riot.profile-cache.hard-ttl-minutes:15}") long hardTtlMinutes) {
+        this.aggregationService = aggregationService;
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .refreshAfterWrite(Duration.ofSeconds(softTtlSeconds))
+                .expireAfterWrite(Duration.ofMinutes(hardTtlMinutes))
+                .executor(riotExecutor)
+                .recordStats()
+                .buildAsync(new ProfileLoader());
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "profiles");
+    }
+
+    public Entry get(String gameName, String tagLine) {
+        return join(cache.get(key(gameName, tagLine)));
+    }
+
+    /**
+     * Reloads the profile from Riot now and returns the fresh entry. Joins a refresh that is
+     * already in flight for the same Riot ID instead of starting another one.
+     */
+    public Entry refresh(String gameName, String tagLine) {
+        return join(cache.synchronous().refresh(key(gameName, tagLine)));
+    }
+
+    private static Entry join(CompletableFuture<Entry> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private static Key key(String gameName, String tagLine) {
+        return new Key(gameName.strip().toLowerCase(Locale.ROOT), tagLine.strip().toLowerCase(Locale.ROOT));
+    }
+
+    private Entry toEntry(SummonerResponse profile, Entry previous) {
+        String etag = etag(profile);
+        if (previous != null && previous.etag().equals(etag)) {
+            return new Entry(profile, etag, previous.lastModified());
+        }
+        return new Entry(profile, etag, Instant.now());
+    }
+
+    private String etag(SummonerResponse profile) {
+        try {
+            return "\"" + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(profile)) + "\"";
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private class ProfileLoader implements CacheLoader<Key, Entry> {
+
+        @Override
+        public Entry load(Key key) {
+            return toEntry(aggregationService.getSummonerInfo(key.gameName(), key.tagLine()), null);
+        }
+
+        /**
+         * Keeps {@code lastModified} when the refreshed profile is unchanged, so clients holding
+         * the old ETag keep getting {@code 304}.
+         */
+        @Override
+        public Entry reload(Key key, Entry oldValue) {
+            return toEntry(aggregationService.getSummonerInfo(key.gameName(), key.tagLine()), oldValue);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.lolgg.cache;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.pubsub.RedisPubSubAdapter;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * {@link RemoteCacheStore} on Redis via Lettuce. Values live under {@code lolgg:<namespace>:<key>}
+ * with a per-entry TTL; invalidations go over the {@value #CHANNEL} pub/sub channel, tagged with
+ * this node's ID so a node ignores its own messages.
+ * <p>
+ * One multiplexed connection carries all commands, and the command timeout is kept short so a slow
+ * Redis degrades to a cache miss instead of holding up the request. Connections are opened on first
+ * use, so the node starts while Redis is down, and commands fail fast instead of being buffered
+ * while disconnected. Lettuce re-subscribes to the channel after a reconnect.
+ */
+public class RedisRemoteCacheStore implements RemoteCacheStore, AutoCloseable {
+
+    static final String CHANNEL = "lolgg:invalidate";
+    private static final char SEPARATOR = '\n';
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final RedisClient client;
+    private final List<BiConsumer<String, String>> listeners = new CopyOnWriteArrayList<>();
+    private final ReentrantLock connectLock = new ReentrantLock();
+    private volatile StatefulRedisConnection<String, byte[]> connection;
+    private volatile StatefulRedisPubSubConnection<String, String> pubSub;
+
+    public RedisRemoteCacheStore(String uri, Duration timeout) {
+        this.client = RedisClient.create(uri);
+        client.setDefaultTimeout(timeout);
+        client.setOptions(ClientOptions.builder()
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                .build());
+    }
+
+    @Override
+    public byte[] get(String namespace, String key) {
+        return commands().get(id(namespace, key));
+    }
+
+    @Override
+    public void put(String namespace, String key, byte[] value, Duration ttl) {
+        commands().set(id(namespace, key), value, SetArgs.Builder.px(ttl.toMillis()));
+    }
+
+    @Override
+    public void delete(String namespace, String key) {
+        commands().del(id(namespace, key));
+    }
+
+    @Override
+    public void publishInvalidation(String namespace, String key) {
+        String message = nodeId + SEPARATOR + namespace + SEPARATOR + key;
+        commands().publish(CHANNEL, message.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Registers the listener right away; the subscription itself is made with the first connection.
+     */
+    @Override
+    public void subscribeInvalidations(BiConsumer<String, String> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void close() {
+        if (pubSub != null) pubSub.close();
+        if (connection != null) connection.close();
+        client.shutdown();
+    }
+
+    private RedisCommands<String, byte[]> commands() {
+        StatefulRedisConnection<String, byte[]> current = connection;
+        if (current != null && pubSub != null) return current.sync();
+        connectLock.lock();
+        try {
+            if (connection == null) {
+                connection = client.connect(RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE));
+            }
+            if (pubSub == null) {
+                StatefulRedisPubSubConnection<String, String> subscription = client.connectPubSub();
+                subscription.addListener(new RedisPubSubAdapter<>() {
+                    @Override
+                    public void message(String channel, String message) {
+                        dispatch(message);
+                    }
+                });
+                subscription.sync().subscribe(CHANNEL);
+                pubSub = subscription;
+            }
+            return connection.sync();
+        } finally {
+            connectLock.unlock();
+        }
+    }
+
+    private void dispatch(String message) {
+        int first = message.indexOf(SEPARATOR);
+        int second = message.indexOf(SEPARATOR, first + 1);
+        if (first < 0 || second < 0 || message.startsWith(nodeId + SEPARATOR)) return;
+        String namespace = message.substring(first + 1, second);
+        String key = message.substring(second + 1);
+        for (BiConsumer<String, String> listener : listeners) {
+            listener.accept(namespace, key);
+        }
+    }
+
+    private static String id(String namespace, String key) {
+        return "lolgg:" + namespace + ':' + key;
+    }
+}
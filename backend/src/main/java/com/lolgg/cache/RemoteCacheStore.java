@@ -0,0 +1,33 @@
+package com.lolgg.cache;
+
+import java.time.Duration;
+import java.util.function.BiConsumer;
+
+/**
+ * Shared second-level cache every backend node reads and writes, plus a broadcast channel
+ * for invalidations. Keys are scoped by a namespace per cache ({@code tiers}, {@code accounts}, ...).
+ * <p>
+ * Implementations must not throw on connection problems in a way that fails the request;
+ * {@link SharedCacheTier} treats any exception as a miss.
+ */
+public interface RemoteCacheStore {
+
+    /**
+     * @return the stored value, or null if absent or expired
+     */
+    byte[] get(String namespace, String key);
+
+    void put(String namespace, String key, byte[] value, Duration ttl);
+
+    void delete(String namespace, String key);
+
+    /**
+     * Tells every other node to drop its near-cache copy of {@code key}. Not delivered back to this node.
+     */
+    void publishInvalidation(String namespace, String key);
+
+    /**
+     * @param listener called with {@code (namespace, key)} for invalidations published by other nodes
+     */
+    void subscribeInvalidations(BiConsumer<String, String> listener);
+}
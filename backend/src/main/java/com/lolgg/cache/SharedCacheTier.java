@@ -0,0 +1,131 @@
+package com.lolgg.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Second level behind one of our Caffeine caches: values are shared with every node through the
+ * {@link RemoteCacheStore} in namespace {@code name}. Remote failures are logged and treated as
+ * misses, and the store is then skipped for a few seconds, so Redis being down only costs extra
+ * Riot calls rather than a timeout per lookup. With no store configured every call is a no-op.
+ * <p>
+ * Lookups are counted as {@code cache.remote.requests{cache=<name>, result=hit|miss|error}}.
+ */
+public final class SharedCacheTier<V> {
+
+    private static final Logger log = LoggerFactory.getLogger(SharedCacheTier.class);
+
+    private static final long ERROR_BACKOFF_MILLIS = 5000;
+
+    public interface Codec<V> {
+        byte[] encode(V value);
+
+        /**
+         * @return the value, or null if {@code bytes} can't be read (e.g. written by an older version)
+         */
+        V decode(byte[] bytes);
+    }
+
+    private final RemoteCacheStore store;
+    private final String name;
+    private final Codec<V> codec;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter errors;
+    private volatile long skipUntil;
+
+    /**
+     * @param store null to disable the shared level
+     */
+    public SharedCacheTier(RemoteCacheStore store, String name, Codec<V> codec, MeterRegistry meterRegistry) {
+        this.store = store;
+        this.name = name;
+        this.codec = codec;
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+        this.errors = counter(meterRegistry, "error");
+    }
+
+    public V get(String key) {
+        if (store == null) return null;
+        if (skipping()) {
+            misses.increment();
+            return null;
+        }
+        try {
+            byte[] bytes = store.get(name, key);
+            V value = bytes != null ? codec.decode(bytes) : null;
+            (value != null ? hits : misses).increment();
+            return value;
+        } catch (RuntimeException e) {
+            errors.increment();
+            failed("get", key, e);
+            return null;
+        }
+    }
+
+    public void put(String key, V value, Duration ttl) {
+        if (store == null || ttl.isZero() || ttl.isNegative() || skipping()) return;
+        try {
+            store.put(name, key, codec.encode(value), ttl);
+        } catch (RuntimeException e) {
+            failed("put", key, e);
+        }
+    }
+
+    /**
+     * Deletes the shared copy and tells the other nodes to drop their near copies.
+     */
+    public void invalidate(String key) {
+        if (store == null || skipping()) return;
+        try {
+            store.delete(name, key);
+            store.publishInvalidation(name, key);
+        } catch (RuntimeException e) {
+            failed("invalidation", key, e);
+        }
+    }
+
+    /**
+     * Tells the other nodes that {@code key} changed, without deleting the shared copy just written.
+     */
+    public void publishChange(String key) {
+        if (store == null || skipping()) return;
+        try {
+            store.publishInvalidation(name, key);
+        } catch (RuntimeException e) {
+            failed("change notification", key, e);
+        }
+    }
+
+    /**
+     * @param listener called with the key whenever another node invalidates or changes an entry of this cache
+     */
+    public void onInvalidation(Consumer<String> listener) {
+        if (store == null) return;
+        store.subscribeInvalidations((namespace, key) -> {
+            if (name.equals(namespace)) listener.accept(key);
+        });
+    }
+
+    private boolean skipping() {
+        return System.currentTimeMillis() < skipUntil;
+    }
+
+    private void failed(String operation, String key, RuntimeException e) {
+        log.debug("Remote cache {} failed for {}:{} - {}", operation, name, key, e.getMessage());
+        skipUntil = System.currentTimeMillis() + ERROR_BACKOFF_MILLIS;
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.remote.requests")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,185 @@
+package com.lolgg.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.lolgg.client.RiotBulkhead;
+import com.lolgg.client.RiotCallContext;
+import com.lolgg.client.SharedCallPriority;
+import com.lolgg.dto.riot.LeagueEntryDto;
+import com.lolgg.service.RiotLeagueService;
+import com.lolgg.service.TierCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Solo queue tier per puuid, stored as a packed {@link TierCode} (tier, rank and LP in one int).
+ * <p>
+ * Bounded with Caffeine's W-TinyLFU eviction. Ranked entries live for {@code ttl-minutes} and
+ * are refreshed in the background once older than {@code refresh-minutes}, so hot entries
+ * never expire under readers. UNRANKED results are cached for a shorter {@code unranked-ttl-minutes}.
+ * Hit rate, evictions and size are published as {@code cache.*} metrics tagged {@code cache=tiers}.
+ * <p>
+ * With a {@link RemoteCacheStore} configured, a miss first checks the shared tier, which other nodes
+ * fill, before calling league-v4. Shared entries live for one refresh interval, and a refresh that
+ * changes a tier tells the other nodes to drop their copy.
+ * <p>
+ * A load is scheduled at the class of the caller that started it; a more urgent caller that joins
+ * it (e.g. a match page asking for a tier the prefetcher is loading) raises the load to its class.
+ */
+@Component
+public class TierCache {
+
+    private final RiotLeagueService leagueService;
+    private final AsyncLoadingCache<String, Integer> cache;
+    private final SharedCacheTier<Integer> shared;
+    private final Duration sharedTtl;
+    private final Duration sharedUnrankedTtl;
+    private final Map<String, SharedCallPriority> loadPriorities = new ConcurrentHashMap<>();
+
+    public TierCache(RiotLeagueService leagueService,
+                     @Qualifier("riotExecutor") ExecutorService riotExecutor,
+                     MeterRegistry meterRegistry,
+                     ObjectProvider<RemoteCacheStore> remoteStore,
+                     @Value("${riot.tier-cache.max-size:50000}") long maxSize,
+                     @Value("${riot.tier-cache.ttl-minutes:60}") long ttlMinutes,
+                     @Value("${riot.tier-cache.refresh-minutes:20}") long refreshMinutes,
+                     @Value("${riot.tier-cache.unranked-ttl-minutes:10}") long unrankedTtlMinutes) {
+        this.leagueService = leagueService;
+        this.shared = new SharedCacheTier<>(remoteStore.getIfAvailable(), "tiers", new TierCodec(), meterRegistry);
+        this.sharedTtl = Duration.ofMinutes(refreshMinutes);
+        this.sharedUnrankedTtl = Duration.ofMinutes(Math.min(refreshMinutes, unrankedTtlMinutes));
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TierExpiry(Duration.ofMinutes(ttlMinutes), Duration.ofMinutes(unrankedTtlMinutes)))
+                .refreshAfterWrite(Duration.ofMinutes(refreshMinutes))
+                .executor(riotExecutor)
+                .recordStats()
+                .buildAsync(new TierLoader());
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "tiers");
+        shared.onInvalidation(cache.synchronous()::invalidate);
+    }
+
+    /**
+     * @return the cached tier code, or {@link TierCode#UNKNOWN} if absent or still loading
+     */
+    public int getIfPresent(String puuid) {
+        CompletableFuture<Integer> future = cache.getIfPresent(puuid);
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) return TierCode.UNKNOWN;
+        return future.join();
+    }
+
+    /**
+     * Returns the tier code, calling league-v4 if it isn't cached. Concurrent callers for
+     * the same puuid share one in-flight league-v4 call; a failed load is not cached.
+     */
+    public CompletableFuture<Integer> get(String puuid) {
+        CompletableFuture<Integer> future = cache.get(puuid);
+        if (!future.isDone()) {
+            SharedCallPriority load = loadPriorities.get(puuid);
+            if (load != null) load.raise(RiotCallContext.current().priority());
+        }
+        return future;
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    private int fetchTier(String puuid) {
+        List<LeagueEntryDto> entries = leagueService.getLeagueEntries(puuid, RiotBulkhead.TIERS);
+        for (LeagueEntryDto e : entries) {
+            if ("RANKED_SOLO_5x5".equals(e.queueType())) {
+                return TierCode.of(e.tier(), e.rank(), e.leaguePoints());
+            }
+        }
+        return TierCode.UNRANKED;
+    }
+
+    private void share(String puuid, int tier) {
+        shared.put(puuid, tier, tier == TierCode.UNRANKED ? sharedUnrankedTtl : sharedTtl);
+    }
+
+    private class TierLoader implements CacheLoader<String, Integer> {
+
+        /**
+         * Called on the thread that misses, so the load's priority is registered before any
+         * other caller can join it.
+         */
+        @Override
+        public CompletableFuture<Integer> asyncLoad(String puuid, Executor executor) {
+            RiotCallContext context = RiotCallContext.current();
+            SharedCallPriority priority = new SharedCallPriority(context.priority());
+            loadPriorities.put(puuid, priority);
+            return CompletableFuture
+                    .supplyAsync(() -> RiotCallContext.callAs(context.sharedBy(priority), () -> load(puuid)), executor)
+                    .whenComplete((tier, e) -> loadPriorities.remove(puuid, priority));
+        }
+
+        @Override
+        public Integer load(String puuid) {
+            Integer tier = shared.get(puuid);
+            if (tier != null) return tier;
+            int fetched = fetchTier(puuid);
+            share(puuid, fetched);
+            return fetched;
+        }
+
+        /**
+         * Background refreshes always go to league-v4, since the shared copy may be the one being refreshed.
+         */
+        @Override
+        public Integer reload(String puuid, Integer oldTier) {
+            int fetched = fetchTier(puuid);
+            share(puuid, fetched);
+            if (oldTier == null || fetched != oldTier) shared.publishChange(puuid);
+            return fetched;
+        }
+    }
+
+    private static final class TierCodec implements SharedCacheTier.Codec<Integer> {
+
+        @Override
+        public byte[] encode(Integer tier) {
+            return ByteBuffer.allocate(Integer.BYTES).putInt(tier).array();
+        }
+
+        @Override
+        public Integer decode(byte[] bytes) {
+            return bytes.length == Integer.BYTES ? ByteBuffer.wrap(bytes).getInt() : null;
+        }
+    }
+
+    private record TierExpiry(Duration ttl, Duration unrankedTtl) implements Expiry<String, Integer> {
+
+        @Override
+        public long expireAfterCreate(String puuid, Integer tier, long currentTime) {
+            return (tier == TierCode.UNRANKED ? unrankedTtl : ttl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String puuid, Integer tier, long currentTime, long currentDuration) {
+            return expireAfterCreate(puuid, tier, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String puuid, Integer tier, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
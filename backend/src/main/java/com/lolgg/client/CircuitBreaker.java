@@ -0,0 +1,134 @@
+package com.lolgg.client;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Count-based circuit breaker for one Riot host. Opens when the failure rate over the last
+ * {@code window} calls reaches {@code failureRate}; after {@code openMillis} a single probe call
+ * is let through, and its outcome closes or re-opens the circuit.
+ */
+final class CircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final long PROBE_WAIT_MILLIS = 1000;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final boolean[] failures;
+    private final int minCalls;
+    private final double failureRate;
+    private final long openMillis;
+
+    private State state = State.CLOSED;
+    private int next;
+    private int recorded;
+    private int failed;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    CircuitBreaker(int window, int minCalls, double failureRate, long openMillis) {
+        this.failures = new boolean[window];
+        this.minCalls = Math.min(minCalls, window);
+        this.failureRate = failureRate;
+        this.openMillis = openMillis;
+    }
+
+    /**
+     * @return 0 if the call may go ahead, otherwise milliseconds until it is worth trying again
+     */
+    long tryAcquire(long now) {
+        lock.lock();
+        try {
+            switch (state) {
+                case CLOSED:
+                    return 0;
+                case OPEN:
+                    if (now < openedAt + openMillis) return openedAt + openMillis - now;
+                    state = State.HALF_OPEN;
+                    probeInFlight = true;
+                    return 0;
+                default:
+                    if (probeInFlight) return PROBE_WAIT_MILLIS;
+                    probeInFlight = true;
+                    return 0;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onSuccess() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                close();
+            } else if (state == State.CLOSED) {
+                record(false);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onFailure(long now) {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                open(now);
+            } else if (state == State.CLOSED) {
+                record(true);
+                if (recorded >= minCalls && failed >= failureRate * recorded) open(now);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The call never reached the host (e.g. rejected by the local rate budget); frees the probe slot.
+     */
+    void onSkipped() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) probeInFlight = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    State state() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(boolean failure) {
+        if (recorded == failures.length) {
+            if (failures[next]) failed--;
+        } else {
+            recorded++;
+        }
+        failures[next] = failure;
+        if (failure) failed++;
+        next = (next + 1) % failures.length;
+    }
+
+    private void open(long now) {
+        state = State.OPEN;
+        openedAt = now;
+        probeInFlight = false;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        probeInFlight = false;
+        next = 0;
+        recorded = 0;
+        failed = 0;
+    }
+}
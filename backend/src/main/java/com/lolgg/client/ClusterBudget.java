@@ -0,0 +1,164 @@
+package com.lolgg.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This node's share of the cluster-wide budget in a {@link RateLimitStore}. Tokens are leased in
+ * batches of up to {@code leaseSize} and handed out locally, so most calls never leave the JVM;
+ * tokens still unused when their window ends simply lapse. Each lease also carries this node's
+ * header-synced counts to the store, which keeps the shared counters in line with what Riot reports.
+ * <p>
+ * If the store can't be reached, the node runs on its local budget alone for a few seconds before
+ * trying the store again, so an outage costs one timeout per backoff period rather than one per call.
+ */
+final class ClusterBudget {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterBudget.class);
+
+    /** After a store failure, the node runs on its local budget alone for this long before trying again. */
+    private static final long STORE_BACKOFF_MILLIS = 5000;
+
+    /** Callers arriving while another thread refills the lease check back after this. */
+    private static final long REFILL_WAIT_MILLIS = 5;
+
+    private static final class Lease {
+        final ReentrantLock lock = new ReentrantLock();
+        int remaining;
+        long validUntil;
+        long blockedUntil;
+        boolean refilling;
+    }
+
+    private final RateLimitStore store;
+    private final int leaseSize;
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private volatile long storeDownUntil;
+
+    ClusterBudget(RateLimitStore store, int leaseSize) {
+        this.store = store;
+        this.leaseSize = Math.max(1, leaseSize);
+    }
+
+    /**
+     * @return 0 if a token was taken, otherwise milliseconds until one may be available
+     */
+    long take(String scope, List<RateLimitStore.Window> windows, long now) {
+        if (windows.isEmpty() || now < storeDownUntil) return 0;
+        Lease lease = lease(scope);
+
+        lease.lock.lock();
+        try {
+            if (lease.blockedUntil > now) return lease.blockedUntil - now;
+            if (lease.remaining > 0 && lease.validUntil > now) {
+                lease.remaining--;
+                return 0;
+            }
+            if (lease.refilling) return REFILL_WAIT_MILLIS;
+            lease.refilling = true;
+        } finally {
+            lease.lock.unlock();
+        }
+
+        // The round trip runs outside the lock; other callers see refilling and wait briefly
+        long granted;
+        try {
+            granted = store.reserve(scope, windows, batchSize(windows), now);
+        } catch (RuntimeException e) {
+            storeDown(e);
+            granted = Long.MIN_VALUE;
+        }
+
+        lease.lock.lock();
+        try {
+            lease.refilling = false;
+            if (granted == Long.MIN_VALUE) {
+                lease.remaining = 0;
+                lease.validUntil = 0;
+                return 0;
+            }
+            if (granted < 0) {
+                lease.blockedUntil = now - granted;
+                lease.remaining = 0;
+                return -granted;
+            }
+            long windowEnd = windowEnd(windows, now);
+            if (granted == 0) {
+                // nothing left cluster-wide; don't ask again before the next window starts
+                lease.blockedUntil = windowEnd;
+                return windowEnd - now;
+            }
+            lease.remaining = (int) granted - 1;
+            lease.validUntil = windowEnd;
+            return 0;
+        } finally {
+            lease.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a token from {@link #take} that ended up unused, e.g. because another limit said wait.
+     */
+    void giveBack(String scope, long now) {
+        Lease lease = leases.get(scope);
+        if (lease == null) return;
+        lease.lock.lock();
+        try {
+            if (lease.validUntil > now) lease.remaining++;
+        } finally {
+            lease.lock.unlock();
+        }
+    }
+
+    void block(String scope, long untilMillis) {
+        Lease lease = lease(scope);
+        lease.lock.lock();
+        try {
+            lease.blockedUntil = Math.max(lease.blockedUntil, untilMillis);
+            lease.remaining = 0;
+        } finally {
+            lease.lock.unlock();
+        }
+        if (System.currentTimeMillis() < storeDownUntil) return;
+        try {
+            store.block(scope, untilMillis);
+        } catch (RuntimeException e) {
+            storeDown(e);
+        }
+    }
+
+    private void storeDown(RuntimeException e) {
+        long now = System.currentTimeMillis();
+        if (now >= storeDownUntil) {
+            log.warn("Rate limit store unavailable, using the local budget only for {}ms - {}",
+                    STORE_BACKOFF_MILLIS, e.getMessage());
+        }
+        storeDownUntil = now + STORE_BACKOFF_MILLIS;
+    }
+
+    private Lease lease(String scope) {
+        return leases.computeIfAbsent(scope, s -> new Lease());
+    }
+
+    /** Small limits get small batches, so one node can't sit on a large part of a window. */
+    private int batchSize(List<RateLimitStore.Window> windows) {
+        int size = leaseSize;
+        for (RateLimitStore.Window window : windows) {
+            size = Math.min(size, Math.max(1, window.limit() / 10));
+        }
+        return size;
+    }
+
+    private static long windowEnd(List<RateLimitStore.Window> windows, long now) {
+        long end = Long.MAX_VALUE;
+        for (RateLimitStore.Window window : windows) {
+            end = Math.min(end, (now / window.lengthMillis() + 1) * window.lengthMillis());
+        }
+        return end;
+    }
+}
@@ -0,0 +1,63 @@
+package com.lolgg.client;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Stand-in for the Redis store when running a single node, in tests and in benchmarks. Counters
+ * are shared by every instance in the JVM, so application contexts started side by side draw from
+ * one budget like separate nodes would.
+ */
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private static final ReentrantLock LOCK = new ReentrantLock();
+    private static final Map<String, Integer> COUNTS = new HashMap<>();
+    private static final Map<String, Long> BLOCKED_UNTIL = new HashMap<>();
+
+    @Override
+    public long reserve(String scope, List<Window> windows, int requested, long now) {
+        LOCK.lock();
+        try {
+            long blockedUntil = BLOCKED_UNTIL.getOrDefault(scope, 0L);
+            if (blockedUntil > now) return now - blockedUntil;
+
+            COUNTS.keySet().removeIf(key -> windowEnd(key) <= now);
+            int granted = requested;
+            for (Window window : windows) {
+                String key = key(scope, window, now);
+                int count = Math.max(COUNTS.getOrDefault(key, 0), window.observed());
+                COUNTS.put(key, count);
+                granted = Math.min(granted, window.limit() - count);
+            }
+            if (granted <= 0) return 0;
+            for (Window window : windows) {
+                COUNTS.merge(key(scope, window, now), granted, Integer::sum);
+            }
+            return granted;
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    @Override
+    public void block(String scope, long untilMillis) {
+        LOCK.lock();
+        try {
+            BLOCKED_UNTIL.merge(scope, untilMillis, Math::max);
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /** {@code scope|lengthMillis|windowEnd}, so expired windows can be swept by key alone. */
+    private static String key(String scope, Window window, long now) {
+        long end = (now / window.lengthMillis() + 1) * window.lengthMillis();
+        return scope + '|' + window.lengthMillis() + '|' + end;
+    }
+
+    private static long windowEnd(String key) {
+        return Long.parseLong(key.substring(key.lastIndexOf('|') + 1));
+    }
+}
@@ -0,0 +1,136 @@
+package com.lolgg.client;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Set of fixed windows matching one Riot rate limit header, e.g. {@code "20:1,100:120"}
+ * (20 requests per second and 100 per two minutes). Not thread-safe; guarded by the owning host budget.
+ */
+final class RateLimitBucket {
+
+    private static final class Window {
+        final int limit;
+        final long lengthMillis;
+        long startMillis;
+        int count;
+
+        Window(int limit, long lengthMillis) {
+            this.limit = limit;
+            this.lengthMillis = lengthMillis;
+        }
+
+        void roll(long now) {
+            if (count > 0 && now >= startMillis + lengthMillis) {
+                count = 0;
+            }
+        }
+    }
+
+    private List<Window> windows = List.of();
+    private String spec = "";
+    private long blockedUntilMillis;
+
+    RateLimitBucket(String spec) {
+        updateLimits(spec);
+    }
+
+    /**
+     * @return milliseconds until a request fits in every window, 0 if it fits now
+     */
+    long waitMillis(long now) {
+        long wait = Math.max(0, blockedUntilMillis - now);
+        for (Window w : windows) {
+            w.roll(now);
+            if (w.count >= w.limit) {
+                wait = Math.max(wait, w.startMillis + w.lengthMillis - now);
+            }
+        }
+        return wait;
+    }
+
+    /**
+     * @return share of the tightest window still unused, 0 while blocked after a 429
+     */
+    double headroom(long now) {
+        if (blockedUntilMillis > now) return 0;
+        double free = 1;
+        for (Window w : windows) {
+            w.roll(now);
+            free = Math.min(free, w.limit > 0 ? (double) Math.max(0, w.limit - w.count) / w.limit : 0);
+        }
+        return free;
+    }
+
+    /**
+     * Current limits for the cluster budget, with this node's counts (its own calls, raised to
+     * what Riot last reported) as the observed lower bound.
+     */
+    List<RateLimitStore.Window> clusterWindows(long now) {
+        List<RateLimitStore.Window> result = new ArrayList<>(windows.size());
+        for (Window w : windows) {
+            w.roll(now);
+            result.add(new RateLimitStore.Window(w.limit, w.lengthMillis, w.count));
+        }
+        return result;
+    }
+
+    void consume(long now) {
+        for (Window w : windows) {
+            if (w.count == 0) w.startMillis = now;
+            w.count++;
+        }
+    }
+
+    void updateLimits(String header) {
+        if (header == null || header.isBlank() || header.equals(spec)) return;
+
+        List<Window> updated = new ArrayList<>();
+        for (String part : header.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2) continue;
+            try {
+                Window window = new Window(Integer.parseInt(pair[0]), Long.parseLong(pair[1]) * 1000);
+                for (Window old : windows) {
+                    if (old.lengthMillis == window.lengthMillis) {
+                        window.startMillis = old.startMillis;
+                        window.count = old.count;
+                    }
+                }
+                updated.add(window);
+            } catch (NumberFormatException ignored) {
+                // malformed header entry, keep the rest
+            }
+        }
+        windows = updated;
+        spec = header;
+    }
+
+    /**
+     * Aligns local counters with Riot's view, e.g. {@code "5:1,40:120"} from X-App-Rate-Limit-Count.
+     */
+    void syncCounts(String header, long now) {
+        if (header == null || header.isBlank()) return;
+
+        for (String part : header.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2) continue;
+            try {
+                int observed = Integer.parseInt(pair[0]);
+                long lengthMillis = Long.parseLong(pair[1]) * 1000;
+                for (Window w : windows) {
+                    if (w.lengthMillis == lengthMillis && observed > w.count) {
+                        if (w.count == 0) w.startMillis = now;
+                        w.count = observed;
+                    }
+                }
+            } catch (NumberFormatException ignored) {
+                // malformed header entry, keep the rest
+            }
+        }
+    }
+
+    void blockUntil(long untilMillis) {
+        blockedUntilMillis = Math.max(blockedUntilMillis, untilMillis);
+    }
+}
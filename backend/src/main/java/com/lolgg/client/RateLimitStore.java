@@ -0,0 +1,32 @@
+package com.lolgg.client;
+
+import java.util.List;
+
+/**
+ * Cluster-wide Riot budget shared by every node using the same API key. Each limit window is
+ * one counter per {@code scope} (a host's app limit, or one method on a host), aligned to the
+ * epoch so all nodes agree on where a window starts.
+ */
+public interface RateLimitStore {
+
+    /**
+     * One window of a rate limit.
+     *
+     * @param observed lower bound on the calls already made in this window, as Riot last reported
+     *                 it to this node; the shared counter is raised to at least this
+     */
+    record Window(int limit, long lengthMillis, int observed) {}
+
+    /**
+     * Atomically reserves the same number of tokens, up to {@code requested}, in every window.
+     *
+     * @return tokens granted (0 if any window is exhausted), or minus the milliseconds left if
+     * the scope is blocked after a 429
+     */
+    long reserve(String scope, List<Window> windows, int requested, long now);
+
+    /**
+     * Blocks {@code scope} on every node until {@code untilMillis}, e.g. after a Riot 429.
+     */
+    void block(String scope, long untilMillis);
+}
@@ -0,0 +1,121 @@
+package com.lolgg.client;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisNoScriptException;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link RateLimitStore} on Redis. Each window is a counter under
+ * {@code lolgg:rl:<scope>:<lengthMillis>:<windowIndex>} that expires with its window; reservations
+ * run as one Lua script, so the check-and-increment across all windows of a scope is atomic.
+ * <p>
+ * The connection is opened on first use, so a node still starts while Redis is down, and commands
+ * are rejected rather than buffered while disconnected; either way {@link ClusterBudget} falls back
+ * to the local budget.
+ */
+public class RedisRateLimitStore implements RateLimitStore, AutoCloseable {
+
+    /*
+     * KEYS[1] = block key, KEYS[2..] = window counters
+     * ARGV[1] = requested, then per window: limit, ttl millis, observed count
+     */
+    private static final String RESERVE = """
+            local blocked = redis.call('PTTL', KEYS[1])
+            if blocked > 0 then return -blocked end
+            local granted = tonumber(ARGV[1])
+            for i = 2, #KEYS do
+              local arg = 2 + (i - 2) * 3
+              local count = tonumber(redis.call('GET', KEYS[i]) or '0')
+              local observed = tonumber(ARGV[arg + 2])
+              if count < observed then
+                redis.call('SET', KEYS[i], observed, 'PX', ARGV[arg + 1])
+                count = observed
+              end
+              granted = math.min(granted, tonumber(ARGV[arg]) - count)
+            end
+            if granted <= 0 then return 0 end
+            for i = 2, #KEYS do
+              if redis.call('INCRBY', KEYS[i], granted) == granted then
+                redis.call('PEXPIRE', KEYS[i], ARGV[2 + (i - 2) * 3 + 1])
+              end
+            end
+            return granted
+            """;
+
+    private final RedisClient client;
+    private final ReentrantLock connectLock = new ReentrantLock();
+    private volatile StatefulRedisConnection<String, String> connection;
+    private volatile String reserveSha;
+
+    public RedisRateLimitStore(String uri, Duration timeout) {
+        this.client = RedisClient.create(uri);
+        client.setDefaultTimeout(timeout);
+        client.setOptions(ClientOptions.builder()
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                .build());
+    }
+
+    @Override
+    public long reserve(String scope, List<Window> windows, int requested, long now) {
+        String[] keys = new String[windows.size() + 1];
+        String[] args = new String[windows.size() * 3 + 1];
+        keys[0] = blockKey(scope);
+        args[0] = Integer.toString(requested);
+        for (int i = 0; i < windows.size(); i++) {
+            Window window = windows.get(i);
+            long index = now / window.lengthMillis();
+            long ttl = (index + 1) * window.lengthMillis() - now;
+            keys[i + 1] = "lolgg:rl:" + scope + ':' + window.lengthMillis() + ':' + index;
+            args[i * 3 + 1] = Integer.toString(window.limit());
+            args[i * 3 + 2] = Long.toString(Math.max(1, ttl));
+            args[i * 3 + 3] = Integer.toString(window.observed());
+        }
+        RedisCommands<String, String> commands = commands();
+        if (reserveSha == null) reserveSha = commands.scriptLoad(RESERVE);
+        Long result;
+        try {
+            result = commands.evalsha(reserveSha, ScriptOutputType.INTEGER, keys, args);
+        } catch (RedisNoScriptException e) {
+            // Redis restarted or flushed its script cache
+            reserveSha = commands.scriptLoad(RESERVE);
+            result = commands.evalsha(reserveSha, ScriptOutputType.INTEGER, keys, args);
+        }
+        return result != null ? result : 0;
+    }
+
+    @Override
+    public void block(String scope, long untilMillis) {
+        long millis = untilMillis - System.currentTimeMillis();
+        if (millis > 0) commands().set(blockKey(scope), "1", SetArgs.Builder.px(millis));
+    }
+
+    @Override
+    public void close() {
+        if (connection != null) connection.close();
+        client.shutdown();
+    }
+
+    private RedisCommands<String, String> commands() {
+        StatefulRedisConnection<String, String> current = connection;
+        if (current != null) return current.sync();
+        connectLock.lock();
+        try {
+            if (connection == null) connection = client.connect();
+            return connection.sync();
+        } finally {
+            connectLock.unlock();
+        }
+    }
+
+    private static String blockKey(String scope) {
+        return "lolgg:rl:" + scope + ":blocked";
+    }
+}
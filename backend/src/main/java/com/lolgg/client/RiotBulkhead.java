@@ -0,0 +1,22 @@
+package com.lolgg.client;
+
+/**
+ * Separate concurrency pools for Riot calls, so a burst of one kind of work
+ * (e.g. tier lookups for a full match page) can't take every slot from the others.
+ */
+public enum RiotBulkhead {
+
+    PROFILE("profile"),
+    MATCHES("matches"),
+    TIERS("tiers");
+
+    private final String tag;
+
+    RiotBulkhead(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+}
@@ -0,0 +1,74 @@
+package com.lolgg.client;
+
+import java.util.function.Supplier;
+
+/**
+ * Who a Riot call is made for: the scheduling class and the client (IP) behind it. Set per
+ * request by {@code RiotCallContextInterceptor} and carried into {@code riotExecutor} tasks;
+ * threads without a context, such as the tier prefetcher, run as {@link #BACKGROUND}.
+ *
+ * @param shared set for calls made by a shared load, whose class joining callers may raise
+ */
+public record RiotCallContext(RiotPriority priority, String client, SharedCallPriority shared) {
+
+    public static final RiotCallContext BACKGROUND = new RiotCallContext(RiotPriority.BACKGROUND_SYNC, "background");
+
+    public RiotCallContext(RiotPriority priority, String client) {
+        this(priority, client, null);
+    }
+
+    /**
+     * @return the class to schedule under now, taking raises of the shared load into account
+     */
+    public RiotPriority effectivePriority() {
+        return shared != null ? shared.get() : priority;
+    }
+
+    public RiotCallContext sharedBy(SharedCallPriority shared) {
+        return new RiotCallContext(priority, client, shared);
+    }
+
+    private static final ThreadLocal<RiotCallContext> CURRENT = new ThreadLocal<>();
+
+    public static RiotCallContext current() {
+        RiotCallContext context = CURRENT.get();
+        return context != null ? context : BACKGROUND;
+    }
+
+    public static void set(RiotCallContext context) {
+        CURRENT.set(context);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static <T> T callAs(RiotCallContext context, Supplier<T> call) {
+        RiotCallContext previous = CURRENT.get();
+        CURRENT.set(context);
+        try {
+            return call.get();
+        } finally {
+            if (previous != null) CURRENT.set(previous);
+            else CURRENT.remove();
+        }
+    }
+
+    /**
+     * @return {@code task} running under the calling thread's context, wherever it is executed
+     */
+    public static Runnable wrap(Runnable task) {
+        RiotCallContext context = CURRENT.get();
+        if (context == null) return task;
+        return () -> {
+            RiotCallContext previous = CURRENT.get();
+            CURRENT.set(context);
+            try {
+                task.run();
+            } finally {
+                if (previous != null) CURRENT.set(previous);
+                else CURRENT.remove();
+            }
+        };
+    }
+}
@@ -0,0 +1,272 @@
+package com.lolgg.client;
+
+import com.lolgg.config.RiotResilienceProperties;
+import com.lolgg.config.RiotSchedulerProperties;
+import com.lolgg.exception.RiotRateLimitException;
+import com.lolgg.exception.RiotUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.net.URI;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Shared resilience layer every {@code Riot*Service} call goes through:
+ * <ul>
+ *   <li>a bulkhead per {@link RiotBulkhead}, so tier lookups can't take the slots profile searches need.
+ *       Permits are held per attempt, not across retry backoff;</li>
+ *   <li>a circuit breaker per {@link RiotRoute}; while open, calls fail fast instead of queueing on a degraded host;</li>
+ *   <li>retries with full-jitter exponential backoff for 5xx, I/O errors and Riot 429s (waiting at least
+ *       {@code Retry-After}). Other 4xx and local budget rejections are never retried;</li>
+ *   <li>optional hedging for idempotent, tail-heavy calls (match fetches);</li>
+ *   <li>a {@link RiotCallScheduler} per route, admitting each attempt by the caller's
+ *       {@link RiotCallContext} so interactive searches go ahead of prefetch and background work.</li>
+ * </ul>
+ */
+@Component
+public class RiotCallExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(RiotCallExecutor.class);
+
+    /** Hedging doubles the call, so it's skipped once less than this share of the budget is free. */
+    private static final double HEDGE_MIN_HEADROOM = 0.5;
+
+    private final RiotResilienceProperties properties;
+    private final RiotSchedulerProperties schedulerProperties;
+    private final RiotRateLimiter rateLimiter;
+    private final ExecutorService riotExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Map<RiotRoute, String> hosts = new EnumMap<>(RiotRoute.class);
+    private final Map<RiotRoute, CircuitBreaker> breakers = new EnumMap<>(RiotRoute.class);
+    private final Map<RiotBulkhead, Semaphore> bulkheads = new EnumMap<>(RiotBulkhead.class);
+    private final Map<RiotRoute, RiotCallScheduler> schedulers = new EnumMap<>(RiotRoute.class);
+
+    public RiotCallExecutor(RiotResilienceProperties properties,
+                            RiotSchedulerProperties schedulerProperties,
+                            RiotRateLimiter rateLimiter,
+                            @Qualifier("riotExecutor") ExecutorService riotExecutor,
+                            MeterRegistry meterRegistry,
+                            @Value("${riot.api.asia-url:https://asia.api.riotgames.com}") String asiaUrl,
+                            @Value("${riot.api.kr-url:https://kr.api.riotgames.com}") String krUrl) {
+        this.properties = properties;
+        this.schedulerProperties = schedulerProperties;
+        this.rateLimiter = rateLimiter;
+        this.riotExecutor = riotExecutor;
+        this.meterRegistry = meterRegistry;
+        hosts.put(RiotRoute.ASIA, URI.create(asiaUrl).getHost());
+        hosts.put(RiotRoute.KR, URI.create(krUrl).getHost());
+
+        for (RiotRoute route : RiotRoute.values()) {
+            CircuitBreaker breaker = new CircuitBreaker(properties.breakerWindow(), properties.breakerMinCalls(),
+                    properties.breakerFailureRate(), properties.breakerOpenDuration().toMillis());
+            breakers.put(route, breaker);
+            meterRegistry.gauge("riot.circuit.state", Tags.of("route", route.tag()),
+                    breaker, b -> b.state().ordinal());
+            RiotCallScheduler scheduler = new RiotCallScheduler(schedulerProperties.maxInFlight(),
+                    schedulerProperties::weight, schedulerProperties::maxWaitMillis);
+            schedulers.put(route, scheduler);
+            meterRegistry.gauge("riot.scheduler.queued", Tags.of("route", route.tag()),
+                    scheduler, RiotCallScheduler::queued);
+        }
+        for (RiotBulkhead bulkhead : RiotBulkhead.values()) {
+            Semaphore permits = new Semaphore(properties.bulkhead(bulkhead));
+            bulkheads.put(bulkhead, permits);
+            meterRegistry.gauge("riot.bulkhead.available", Tags.of("bulkhead", bulkhead.tag()),
+                    permits, Semaphore::availablePermits);
+        }
+    }
+
+    public <T> T call(RiotRoute route, RiotEndpoint endpoint, RiotBulkhead bulkhead, Supplier<T> call) {
+        return withRetries(route, endpoint, bulkhead, call);
+    }
+
+    /**
+     * Like {@link #call}, but if the call hasn't finished after {@code hedge-delay} a second one is
+     * started and whichever succeeds first wins. Only for idempotent reads.
+     */
+    public <T> T hedged(RiotRoute route, RiotEndpoint endpoint, RiotBulkhead bulkhead, Supplier<T> call) {
+        long delayMillis = properties.hedgeDelay().toMillis();
+        if (delayMillis <= 0) return call(route, endpoint, bulkhead, call);
+
+        CompletableFuture<T> primary = CompletableFuture.supplyAsync(() -> call(route, endpoint, bulkhead, call), riotExecutor);
+        try {
+            return primary.get(delayMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (breakers.get(route).state() != CircuitBreaker.State.CLOSED
+                    || rateLimiter.headroom(hosts.get(route), endpoint) < HEDGE_MIN_HEADROOM) {
+                return join(primary);
+            }
+            meterRegistry.counter("riot.api.hedges", "endpoint", endpoint.tag(), "route", route.tag()).increment();
+            CompletableFuture<T> hedge = CompletableFuture.supplyAsync(() -> call(route, endpoint, bulkhead, call), riotExecutor);
+            return join(firstSuccess(primary, hedge));
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            primary.cancel(true);
+            throw new RiotUnavailableException("Interrupted waiting for " + endpoint.tag(), 0);
+        }
+    }
+
+    /**
+     * Each attempt holds a bulkhead permit and a scheduler slot only while it runs; both are given
+     * back before a retry's backoff, so sleeping retries don't fill the bulkhead.
+     */
+    private <T> T withRetries(RiotRoute route, RiotEndpoint endpoint, RiotBulkhead bulkhead, Supplier<T> call) {
+        CircuitBreaker breaker = breakers.get(route);
+        RiotCallContext context = RiotCallContext.current();
+        for (int attempt = 1; ; attempt++) {
+            long openFor = breaker.tryAcquire(System.currentTimeMillis());
+            if (openFor > 0) {
+                throw new RiotUnavailableException("Riot " + route.tag() + " is failing, circuit open", openFor);
+            }
+
+            Semaphore permits;
+            try {
+                permits = acquirePermit(bulkhead);
+            } catch (RiotUnavailableException e) {
+                breaker.onSkipped();
+                throw e;
+            }
+            RuntimeException failure;
+            long delay;
+            try {
+                RiotCallScheduler scheduler = schedulers.get(route);
+                try {
+                    scheduler.acquire(context);
+                } catch (RiotUnavailableException e) {
+                    breaker.onSkipped();
+                    meterRegistry.counter("riot.scheduler.dropped", "priority", context.effectivePriority().tag(),
+                            "route", route.tag()).increment();
+                    throw e;
+                }
+                try {
+                    T result;
+                    try {
+                        result = call.get();
+                    } finally {
+                        scheduler.release();
+                    }
+                    breaker.onSuccess();
+                    return result;
+                } catch (RuntimeException e) {
+                    if (e instanceof RiotRateLimitException) {
+                        breaker.onSkipped();
+                    } else if (isHostFailure(e)) {
+                        breaker.onFailure(System.currentTimeMillis());
+                    } else {
+                        breaker.onSuccess();
+                    }
+
+                    delay = retryDelay(e, attempt);
+                    if (delay < 0) throw e;
+                    failure = e;
+                }
+            } finally {
+                permits.release();
+            }
+
+            meterRegistry.counter("riot.api.retries", "endpoint", endpoint.tag(), "route", route.tag()).increment();
+            log.debug("Retrying {} in {}ms (attempt {}/{}) - {}",
+                    endpoint.tag(), delay, attempt + 1, properties.maxAttempts(), failure.getMessage());
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+                throw failure;
+            }
+        }
+    }
+
+    private Semaphore acquirePermit(RiotBulkhead bulkhead) {
+        Semaphore permits = bulkheads.get(bulkhead);
+        long waitMillis = properties.bulkheadWait().toMillis();
+        try {
+            if (!permits.tryAcquire(waitMillis, TimeUnit.MILLISECONDS)) {
+                throw new RiotUnavailableException("Too many concurrent " + bulkhead.tag() + " calls", waitMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RiotUnavailableException("Interrupted waiting for " + bulkhead.tag() + " bulkhead", waitMillis);
+        }
+        return permits;
+    }
+
+    /**
+     * @return how long to wait before the next attempt, or -1 if {@code e} must not be retried
+     */
+    private long retryDelay(RuntimeException e, int attempt) {
+        if (attempt >= properties.maxAttempts()) return -1;
+        long cap = Math.min(properties.maxBackoff().toMillis(), properties.baseBackoff().toMillis() << (attempt - 1));
+        long backoff = ThreadLocalRandom.current().nextLong(cap + 1);
+
+        if (e instanceof HttpClientErrorException.TooManyRequests tooMany) {
+            long retryAfter = retryAfterMillis(tooMany.getResponseHeaders());
+            return retryAfter > properties.maxRetryAfter().toMillis() ? -1 : Math.max(retryAfter, backoff);
+        }
+        return isHostFailure(e) ? backoff : -1;
+    }
+
+    private static boolean isHostFailure(RuntimeException e) {
+        return e instanceof HttpServerErrorException || e instanceof ResourceAccessException;
+    }
+
+    private static long retryAfterMillis(HttpHeaders headers) {
+        String value = headers != null ? headers.getFirst(HttpHeaders.RETRY_AFTER) : null;
+        if (value == null) return 0;
+        try {
+            return Long.parseLong(value.trim()) * 1000;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static <T> CompletableFuture<T> firstSuccess(CompletableFuture<T> a, CompletableFuture<T> b) {
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        BiConsumer<T, Throwable> complete = (value, e) -> {
+            if (e == null) {
+                winner.complete(value);
+            } else if (failures.incrementAndGet() == 2) {
+                winner.completeExceptionally(e);
+            }
+        };
+        a.whenComplete(complete);
+        b.whenComplete(complete);
+        return winner;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable e) {
+        if (e instanceof CompletionException && e.getCause() != null) e = e.getCause();
+        return e instanceof RuntimeException runtime ? runtime : new CompletionException(e);
+    }
+}
@@ -0,0 +1,179 @@
+package com.lolgg.client;
+
+import com.lolgg.exception.RiotUnavailableException;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Admission to one Riot host: at most {@code maxInFlight} calls run at once, and the rest wait in
+ * weighted fair order instead of racing for the rate budget. Each (class, client) pair is a flow
+ * whose calls get finish tags {@code 1/weight} apart, so one page's 200 tier lookups don't delay a
+ * profile search behind them, and two clients in the same class share evenly.
+ * <p>
+ * A call still queued after its class's max wait is dropped with {@link RiotUnavailableException}.
+ * A queued call of a {@link SharedCallPriority shared load} that gets raised is re-queued under the
+ * new class, with that class's max wait counted from when it first queued.
+ */
+final class RiotCallScheduler {
+
+    private static final int MAX_TRACKED_FLOWS = 4096;
+
+    private record Flow(RiotPriority priority, String client) {}
+
+    private final class Waiter {
+        final Condition admitted = lock.newCondition();
+        final String client;
+        final long enqueuedAt;
+        RiotPriority priority;
+        double start;
+        double finish;
+        long seq;
+        long deadline;
+        boolean granted;
+
+        Waiter(String client, long enqueuedAt) {
+            this.client = client;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final PriorityQueue<Waiter> queue = new PriorityQueue<>(
+            Comparator.<Waiter>comparingDouble(w -> w.finish).thenComparingLong(w -> w.seq));
+    private final Map<Flow, Double> finishTags = new HashMap<>();
+    private final int maxInFlight;
+    private final ToIntFunction<RiotPriority> weights;
+    private final ToLongFunction<RiotPriority> maxWaitMillis;
+
+    private int inFlight;
+    private double virtualTime;
+    private long seq;
+
+    RiotCallScheduler(int maxInFlight, ToIntFunction<RiotPriority> weights, ToLongFunction<RiotPriority> maxWaitMillis) {
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.weights = weights;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    /**
+     * Waits for a slot; the caller must {@link #release()} it once the call finishes.
+     */
+    void acquire(RiotCallContext context) {
+        SharedCallPriority shared = context.shared();
+        Waiter waiter;
+        lock.lock();
+        try {
+            if (inFlight < maxInFlight && queue.isEmpty()) {
+                inFlight++;
+                return;
+            }
+            waiter = new Waiter(context.client(), System.nanoTime());
+            // Listen before reading the class: an earlier raise is seen here, a later one re-queues
+            if (shared != null) shared.onRaise(() -> requeue(waiter, shared.get()));
+            enqueue(waiter, context.effectivePriority());
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            await(waiter);
+        } finally {
+            if (shared != null) shared.onRaise(null);
+        }
+    }
+
+    void release() {
+        lock.lock();
+        try {
+            inFlight--;
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int queued() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void await(Waiter waiter) {
+        lock.lock();
+        try {
+            while (!waiter.granted) {
+                long remaining = waiter.deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    queue.remove(waiter);
+                    throw new RiotUnavailableException("Riot call queue wait exceeded for " + waiter.priority.tag(),
+                            maxWaitMillis.applyAsLong(waiter.priority));
+                }
+                waiter.admitted.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (waiter.granted) {
+                inFlight--;
+                dispatch();
+            } else {
+                queue.remove(waiter);
+            }
+            throw new RiotUnavailableException("Interrupted waiting for a Riot call slot", 0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Tags the waiter as the next call of its (class, client) flow and queues it. Caller holds the lock. */
+    private void enqueue(Waiter waiter, RiotPriority priority) {
+        Flow flow = new Flow(priority, waiter.client);
+        waiter.priority = priority;
+        waiter.start = Math.max(virtualTime, finishTags.getOrDefault(flow, 0.0));
+        waiter.finish = waiter.start + 1.0 / Math.max(1, weights.applyAsInt(priority));
+        waiter.seq = seq++;
+        waiter.deadline = waiter.enqueuedAt + TimeUnit.MILLISECONDS.toNanos(maxWaitMillis.applyAsLong(priority));
+        finishTags.put(flow, waiter.finish);
+        queue.add(waiter);
+    }
+
+    private void requeue(Waiter waiter, RiotPriority priority) {
+        lock.lock();
+        try {
+            if (waiter.granted || priority.ordinal() >= waiter.priority.ordinal() || !queue.remove(waiter)) return;
+            enqueue(waiter, priority);
+            waiter.admitted.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Hands free slots to the lowest finish tags, skipping calls whose wait already expired. */
+    private void dispatch() {
+        long now = System.nanoTime();
+        while (inFlight < maxInFlight && !queue.isEmpty()) {
+            Waiter next = queue.poll();
+            if (next.deadline - now <= 0) {
+                next.admitted.signal();
+                continue;
+            }
+            virtualTime = Math.max(virtualTime, next.start);
+            next.granted = true;
+            inFlight++;
+            next.admitted.signal();
+        }
+        if (finishTags.size() > MAX_TRACKED_FLOWS) {
+            finishTags.values().removeIf(tag -> tag <= virtualTime);
+        }
+    }
+}
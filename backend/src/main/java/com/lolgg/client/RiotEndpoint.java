@@ -0,0 +1,37 @@
+package com.lolgg.client;
+
+/**
+ * Riot API methods this app calls. Riot applies method rate limits per endpoint,
+ * so calls are classified from the request path.
+ */
+public enum RiotEndpoint {
+
+    ACCOUNT_BY_RIOT_ID("account-by-riot-id", "/riot/account/v1/accounts/by-riot-id/"),
+    SUMMONER_BY_PUUID("summoner-by-puuid", "/lol/summoner/v4/summoners/by-puuid/"),
+    LEAGUE_ENTRIES_BY_PUUID("league-entries-by-puuid", "/lol/league/v4/entries/by-puuid/"),
+    MATCH_IDS_BY_PUUID("match-ids-by-puuid", "/lol/match/v5/matches/by-puuid/"),
+    MATCH_BY_ID("match-by-id", "/lol/match/v5/matches/"),
+    OTHER("other", "/");
+
+    private final String tag;
+    private final String pathPrefix;
+
+    RiotEndpoint(String tag, String pathPrefix) {
+        this.tag = tag;
+        this.pathPrefix = pathPrefix;
+    }
+
+    public String tag() {
+        return tag;
+    }
+
+    /**
+     * Declaration order matters: MATCH_IDS_BY_PUUID shares a prefix with MATCH_BY_ID.
+     */
+    public static RiotEndpoint of(String path) {
+        for (RiotEndpoint endpoint : values()) {
+            if (path.startsWith(endpoint.pathPrefix)) return endpoint;
+        }
+        return OTHER;
+    }
+}
@@ -0,0 +1,90 @@
+package com.lolgg.client;
+
+import com.lolgg.config.RiotHttpProperties;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Builds the request factory behind one Riot RestClient. Each routing host gets its own
+ * pooled client; per-endpoint read timeouts are applied by delegating to one request
+ * factory per {@link RiotEndpoint}, all sharing that client.
+ */
+public final class RiotHttpClientFactory {
+
+    private RiotHttpClientFactory() {}
+
+    public static ClientHttpRequestFactory create(RiotHttpProperties properties) {
+        return switch (properties.engine()) {
+            case JDK -> jdk(properties);
+            case APACHE -> apache(properties);
+        };
+    }
+
+    private static ClientHttpRequestFactory jdk(RiotHttpProperties properties) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(properties.http2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.connectTimeout())
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        return perEndpoint(endpoint -> {
+            JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+            factory.setReadTimeout(properties.readTimeout(endpoint));
+            return factory;
+        });
+    }
+
+    /** HttpClient 5 classic decodes gzip/deflate responses itself but only speaks HTTP/1.1. */
+    private static ClientHttpRequestFactory apache(RiotHttpProperties properties) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnPerRoute(properties.maxConnectionsPerHost())
+                .setMaxConnTotal(properties.maxConnectionsPerHost())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(properties.connectTimeout()))
+                        .build())
+                .build();
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .build();
+
+        return perEndpoint(endpoint -> {
+            HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+            factory.setReadTimeout(properties.readTimeout(endpoint));
+            return factory;
+        });
+    }
+
+    private static ClientHttpRequestFactory perEndpoint(Function<RiotEndpoint, ClientHttpRequestFactory> factoryFor) {
+        Map<RiotEndpoint, ClientHttpRequestFactory> factories = new EnumMap<>(RiotEndpoint.class);
+        for (RiotEndpoint endpoint : RiotEndpoint.values()) {
+            factories.put(endpoint, factoryFor.apply(endpoint));
+        }
+        return new EndpointRequestFactory(factories);
+    }
+
+    private record EndpointRequestFactory(Map<RiotEndpoint, ClientHttpRequestFactory> factories)
+            implements ClientHttpRequestFactory {
+
+        @Override
+        public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+            return factories.get(RiotEndpoint.of(uri.getRawPath())).createRequest(uri, httpMethod);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.lolgg.client;
+
+import com.lolgg.exception.RiotRateLimitException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * Records {@code riot.api.requests} (latency, including time queued for the rate budget) and
+ * {@code riot.api.rate-limited} per endpoint and routing host. Must be the outermost interceptor.
+ */
+public class RiotMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    public RiotMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String host = request.getURI().getHost();
+        RiotEndpoint endpoint = RiotEndpoint.of(request.getURI().getRawPath());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String status = "IO_ERROR";
+
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            int code = response.getStatusCode().value();
+            status = String.valueOf(code);
+            if (code == 429) rateLimited(host, endpoint, "riot");
+            return response;
+        } catch (RiotRateLimitException e) {
+            status = "REJECTED";
+            rateLimited(host, endpoint, "local");
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("riot.api.requests")
+                    .description("Riot API calls")
+                    .tag("endpoint", endpoint.tag())
+                    .tag("host", host)
+                    .tag("status", status)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private void rateLimited(String host, RiotEndpoint endpoint, String source) {
+        meterRegistry.counter("riot.api.rate-limited",
+                "endpoint", endpoint.tag(), "host", host, "source", source).increment();
+    }
+}
@@ -0,0 +1,77 @@
+package com.lolgg.client;
+
+import com.lolgg.dto.riot.LeagueEntryDto;
+import com.lolgg.dto.riot.MatchDto;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Reads {@link MatchDto} and {@code List<LeagueEntryDto>} responses with {@link RiotPayloadParser}.
+ * Registered ahead of the Jackson converter on the Riot RestClients; other types fall through to Jackson.
+ */
+public class RiotPayloadHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public RiotPayloadHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return (type == MatchDto.class || isLeagueEntryList(type)) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return clazz == MatchDto.class && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == MatchDto.class || clazz == List.class;
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        return type == MatchDto.class
+                ? RiotPayloadParser.parseMatch(inputMessage.getBody())
+                : RiotPayloadParser.parseLeagueEntries(inputMessage.getBody());
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        if (clazz != MatchDto.class) {
+            throw new HttpMessageNotReadableException("Unsupported type: " + clazz, inputMessage);
+        }
+        return RiotPayloadParser.parseMatch(inputMessage.getBody());
+    }
+
+    @Override
+    protected void writeInternal(Object o, Type type, HttpOutputMessage outputMessage) {
+        throw new HttpMessageNotWritableException("Riot payloads are read-only");
+    }
+
+    private static boolean isLeagueEntryList(Type type) {
+        return type instanceof ParameterizedType parameterized
+                && parameterized.getRawType() == List.class
+                && parameterized.getActualTypeArguments()[0] == LeagueEntryDto.class;
+    }
+}
@@ -0,0 +1,230 @@
+package com.lolgg.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.lolgg.dto.riot.LeagueEntryDto;
+import com.lolgg.dto.riot.MatchDto;
+import com.lolgg.dto.riot.MatchParticipantDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming parser for match-v5 and league-v4 payloads. Reads only the fields our DTOs
+ * declare and skips everything else with {@link JsonParser#skipChildren()}, without building
+ * a tree or going through Jackson's databind layer.
+ */
+public final class RiotPayloadParser {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private RiotPayloadParser() {}
+
+    public static MatchDto parseMatch(InputStream in) throws IOException {
+        try (JsonParser p = JSON.createParser(in)) {
+            expect(p, JsonToken.START_OBJECT);
+            MatchDto.MetadataDto metadata = null;
+            MatchDto.InfoDto info = null;
+
+            String field;
+            while ((field = p.nextFieldName()) != null) {
+                p.nextToken();
+                switch (field) {
+                    case "metadata" -> metadata = parseMetadata(p);
+                    case "info" -> info = parseInfo(p);
+                    default -> p.skipChildren();
+                }
+            }
+            return new MatchDto(metadata, info);
+        }
+    }
+
+    public static List<LeagueEntryDto> parseLeagueEntries(InputStream in) throws IOException {
+        try (JsonParser p = JSON.createParser(in)) {
+            expect(p, JsonToken.START_ARRAY);
+            List<LeagueEntryDto> entries = new ArrayList<>(2);
+            while (p.nextToken() == JsonToken.START_OBJECT) {
+                entries.add(parseLeagueEntry(p));
+            }
+            return entries;
+        }
+    }
+
+    private static MatchDto.MetadataDto parseMetadata(JsonParser p) throws IOException {
+        String matchId = null;
+        List<String> participants = List.of();
+
+        String field;
+        while ((field = p.nextFieldName()) != null) {
+            p.nextToken();
+            switch (field) {
+                case "matchId" -> matchId = p.getValueAsString();
+                case "participants" -> participants = parseStrings(p);
+                default -> p.skipChildren();
+            }
+        }
+        return new MatchDto.MetadataDto(matchId, participants);
+    }
+
+    private static MatchDto.InfoDto parseInfo(JsonParser p) throws IOException {
+        long gameCreation = 0;
+        long gameDuration = 0;
+        long gameEndTimestamp = 0;
+        String gameMode = null;
+        String gameType = null;
+        int queueId = 0;
+        List<MatchParticipantDto> participants = List.of();
+
+        String field;
+        while ((field = p.nextFieldName()) != null) {
+            p.nextToken();
+            switch (field) {
+                case "gameCreation" -> gameCreation = p.getValueAsLong();
+                case "gameDuration" -> gameDuration = p.getValueAsLong();
+                case "gameEndTimestamp" -> gameEndTimestamp = p.getValueAsLong();
+                case "gameMode" -> gameMode = p.getValueAsString();
+                case "gameType" -> gameType = p.getValueAsString();
+                case "queueId" -> queueId = p.getValueAsInt();
+                case "participants" -> {
+                    participants = new ArrayList<>(10);
+                    while (p.nextToken() == JsonToken.START_OBJECT) {
+                        participants.add(parseParticipant(p));
+                    }
+                }
+                default -> p.skipChildren();
+            }
+        }
+        return new MatchDto.InfoDto(gameCreation, gameDuration, gameEndTimestamp, gameMode, gameType, queueId,
+                participants);
+    }
+
+    private static MatchParticipantDto parseParticipant(JsonParser p) throws IOException {
+        String puuid = null, summonerName = null, riotIdGameName = null, riotIdTagline = null;
+        String championName = null, teamPosition = null;
+        int championId = 0, champLevel = 0, kills = 0, deaths = 0, assists = 0;
+        int totalMinionsKilled = 0, neutralMinionsKilled = 0, goldEarned = 0;
+        int totalDamageDealtToChampions = 0, visionScore = 0;
+        int item0 = 0, item1 = 0, item2 = 0, item3 = 0, item4 = 0, item5 = 0, item6 = 0;
+        int summoner1Id = 0, summoner2Id = 0, teamId = 0;
+        boolean win = false;
+        MatchParticipantDto.ChallengesDto challenges = null;
+
+        String field;
+        while ((field = p.nextFieldName()) != null) {
+            p.nextToken();
+            switch (field) {
+                case "puuid" -> puuid = p.getValueAsString();
+                case "summonerName" -> summonerName = p.getValueAsString();
+                case "riotIdGameName" -> riotIdGameName = p.getValueAsString();
+                case "riotIdTagline" -> riotIdTagline = p.getValueAsString();
+                case "championName" -> championName = p.getValueAsString();
+                case "championId" -> championId = p.getValueAsInt();
+                case "champLevel" -> champLevel = p.getValueAsInt();
+                case "kills" -> kills = p.getValueAsInt();
+                case "deaths" -> deaths = p.getValueAsInt();
+                case "assists" -> assists = p.getValueAsInt();
+                case "totalMinionsKilled" -> totalMinionsKilled = p.getValueAsInt();
+                case "neutralMinionsKilled" -> neutralMinionsKilled = p.getValueAsInt();
+                case "goldEarned" -> goldEarned = p.getValueAsInt();
+                case "totalDamageDealtToChampions" -> totalDamageDealtToChampions = p.getValueAsInt();
+                case "visionScore" -> visionScore = p.getValueAsInt();
+                case "item0" -> item0 = p.getValueAsInt();
+                case "item1" -> item1 = p.getValueAsInt();
+                case "item2" -> item2 = p.getValueAsInt();
+                case "item3" -> item3 = p.getValueAsInt();
+                case "item4" -> item4 = p.getValueAsInt();
+                case "item5" -> item5 = p.getValueAsInt();
+                case "item6" -> item6 = p.getValueAsInt();
+                case "summoner1Id" -> summoner1Id = p.getValueAsInt();
+                case "summoner2Id" -> summoner2Id = p.getValueAsInt();
+                case "win" -> win = p.getValueAsBoolean();
+                case "teamPosition" -> teamPosition = p.getValueAsString();
+                case "teamId" -> teamId = p.getValueAsInt();
+                case "challenges" -> challenges = p.currentToken() == JsonToken.START_OBJECT ? parseChallenges(p) : null;
+                default -> p.skipChildren();
+            }
+        }
+
+        return new MatchParticipantDto(
+                puuid, summonerName, riotIdGameName, riotIdTagline, championName,
+                championId, champLevel, kills, deaths, assists,
+                totalMinionsKilled, neutralMinionsKilled, goldEarned,
+                totalDamageDealtToChampions, visionScore,
+                item0, item1, item2, item3, item4, item5, item6,
+                summoner1Id, summoner2Id, win, teamPosition, teamId, challenges);
+    }
+
+    private static MatchParticipantDto.ChallengesDto parseChallenges(JsonParser p) throws IOException {
+        double killParticipation = 0;
+        double goldPerMinute = 0;
+        int laneMinionsFirst10Minutes = 0;
+        double maxCsAdvantageOnLaneOpponent = 0;
+        int earlyLaningPhaseGoldExpAdvantage = 0;
+        int laningPhaseGoldExpAdvantage = 0;
+
+        String field;
+        while ((field = p.nextFieldName()) != null) {
+            p.nextToken();
+            switch (field) {
+                case "killParticipation" -> killParticipation = p.getValueAsDouble();
+                case "goldPerMinute" -> goldPerMinute = p.getValueAsDouble();
+                case "laneMinionsFirst10Minutes" -> laneMinionsFirst10Minutes = p.getValueAsInt();
+                case "maxCsAdvantageOnLaneOpponent" -> maxCsAdvantageOnLaneOpponent = p.getValueAsDouble();
+                case "earlyLaningPhaseGoldExpAdvantage" -> earlyLaningPhaseGoldExpAdvantage = p.getValueAsInt();
+                case "laningPhaseGoldExpAdvantage" -> laningPhaseGoldExpAdvantage = p.getValueAsInt();
+                default -> p.skipChildren();
+            }
+        }
+        return new MatchParticipantDto.ChallengesDto(killParticipation, goldPerMinute, laneMinionsFirst10Minutes,
+                maxCsAdvantageOnLaneOpponent, earlyLaningPhaseGoldExpAdvantage, laningPhaseGoldExpAdvantage);
+    }
+
+    private static LeagueEntryDto parseLeagueEntry(JsonParser p) throws IOException {
+        String leagueId = null, summonerId = null, queueType = null, tier = null, rank = null;
+        int leaguePoints = 0, wins = 0, losses = 0;
+        boolean hotStreak = false, veteran = false, freshBlood = false, inactive = false;
+
+        String field;
+        while ((field = p.nextFieldName()) != null) {
+            p.nextToken();
+            switch (field) {
+                case "leagueId" -> leagueId = p.getValueAsString();
+                case "summonerId" -> summonerId = p.getValueAsString();
+                case "queueType" -> queueType = p.getValueAsString();
+                case "tier" -> tier = p.getValueAsString();
+                case "rank" -> rank = p.getValueAsString();
+                case "leaguePoints" -> leaguePoints = p.getValueAsInt();
+                case "wins" -> wins = p.getValueAsInt();
+                case "losses" -> losses = p.getValueAsInt();
+                case "hotStreak" -> hotStreak = p.getValueAsBoolean();
+                case "veteran" -> veteran = p.getValueAsBoolean();
+                case "freshBlood" -> freshBlood = p.getValueAsBoolean();
+                case "inactive" -> inactive = p.getValueAsBoolean();
+                default -> p.skipChildren();
+            }
+        }
+        return new LeagueEntryDto(leagueId, summonerId, queueType, tier, rank, leaguePoints, wins, losses,
+                hotStreak, veteran, freshBlood, inactive);
+    }
+
+    private static List<String> parseStrings(JsonParser p) throws IOException {
+        if (p.currentToken() != JsonToken.START_ARRAY) {
+            p.skipChildren();
+            return List.of();
+        }
+        List<String> values = new ArrayList<>(10);
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            values.add(p.getValueAsString());
+        }
+        return values;
+    }
+
+    private static void expect(JsonParser p, JsonToken token) throws IOException {
+        if (p.nextToken() != token) {
+            throw new IOException("Expected " + token + " but got " + p.currentToken());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.lolgg.client;
+
+/**
+ * Scheduling classes for Riot calls, most urgent first. When calls queue for a host, each
+ * (class, client) pair gets a share of the calls in proportion to its weight, and queued
+ * calls older than the class's max wait are dropped.
+ */
+public enum RiotPriority {
+
+    INTERACTIVE_PROFILE("interactive-profile", 16, 5000),
+    MATCH_PAGE("match-page", 8, 5000),
+    TIER_PREFETCH("tier-prefetch", 2, 3000),
+    BACKGROUND_SYNC("background-sync", 1, 2000);
+
+    private final String tag;
+    private final int defaultWeight;
+    private final long defaultMaxWaitMillis;
+
+    RiotPriority(String tag, int defaultWeight, long defaultMaxWaitMillis) {
+        this.tag = tag;
+        this.defaultWeight = defaultWeight;
+        this.defaultMaxWaitMillis = defaultMaxWaitMillis;
+    }
+
+    public String tag() {
+        return tag;
+    }
+
+    public int defaultWeight() {
+        return defaultWeight;
+    }
+
+    public long defaultMaxWaitMillis() {
+        return defaultMaxWaitMillis;
+    }
+}
@@ -0,0 +1,33 @@
+package com.lolgg.client;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * Draws every outgoing Riot call from the shared {@link RiotRateLimiter} budget
+ * and feeds the rate limit headers of each response back into it.
+ */
+public class RiotRateLimitInterceptor implements ClientHttpRequestInterceptor {
+
+    private final RiotRateLimiter rateLimiter;
+
+    public RiotRateLimitInterceptor(RiotRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String host = request.getURI().getHost();
+        RiotEndpoint endpoint = RiotEndpoint.of(request.getURI().getRawPath());
+
+        rateLimiter.acquire(host, endpoint);
+        ClientHttpResponse response = execution.execute(request, body);
+        rateLimiter.onResponse(host, endpoint, response.getStatusCode().value(), response.getHeaders());
+        return response;
+    }
+}
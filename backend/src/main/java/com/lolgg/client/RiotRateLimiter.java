@@ -0,0 +1,203 @@
+package com.lolgg.client;
+
+import com.lolgg.exception.RiotRateLimitException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Shared Riot API budget. Tracks the app-level limit and each method-level limit
+ * per routing host (asia, kr), learning the actual limits from Riot's response headers.
+ * <p>
+ * A call that can't fit in the budget waits only for its own slot; if that slot is
+ * further away than {@code max-wait-ms}, the call is rejected right away instead of queueing.
+ * <p>
+ * With a {@link RateLimitStore} configured, every node running on the same key also draws from
+ * a shared budget (see {@link ClusterBudget}), and a 429 blocks the limit on all nodes.
+ */
+@Component
+public class RiotRateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(RiotRateLimiter.class);
+
+    private final String defaultAppLimits;
+    private final long maxWaitMillis;
+    private final Map<String, HostBudget> budgets = new ConcurrentHashMap<>();
+    private final ClusterBudget cluster;
+
+    public RiotRateLimiter(@Value("${riot.rate-limit.app-limits:20:1,100:120}") String defaultAppLimits,
+                           @Value("${riot.rate-limit.max-wait-ms:10000}") long maxWaitMillis,
+                           @Value("${riot.rate-limit.cluster.lease-size:5}") int leaseSize,
+                           ObjectProvider<RateLimitStore> rateLimitStore) {
+        this.defaultAppLimits = defaultAppLimits;
+        this.maxWaitMillis = maxWaitMillis;
+        RateLimitStore store = rateLimitStore.getIfAvailable();
+        this.cluster = store != null ? new ClusterBudget(store, leaseSize) : null;
+    }
+
+    public void acquire(String host, RiotEndpoint endpoint) {
+        HostBudget budget = budget(host);
+        long deadline = System.currentTimeMillis() + maxWaitMillis;
+
+        while (true) {
+            long now = System.currentTimeMillis();
+            long wait = cluster != null
+                    ? tryAcquireShared(host, budget, endpoint, now)
+                    : budget.tryAcquire(endpoint, now);
+            if (wait == 0) return;
+            if (now + wait > deadline) {
+                throw new RiotRateLimitException(host, endpoint, wait);
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(wait));
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                throw new RiotRateLimitException(host, endpoint, wait);
+            }
+        }
+    }
+
+    /**
+     * Takes a cluster token for the app limit and the method limit, then the local slot;
+     * tokens taken before a later step says wait are given back to the lease.
+     */
+    private long tryAcquireShared(String host, HostBudget budget, RiotEndpoint endpoint, long now) {
+        List<RateLimitStore.Window> appWindows;
+        List<RateLimitStore.Window> methodWindows;
+        budget.lock.lock();
+        try {
+            appWindows = budget.app.clusterWindows(now);
+            methodWindows = budget.method(endpoint).clusterWindows(now);
+        } finally {
+            budget.lock.unlock();
+        }
+
+        String appScope = appScope(host);
+        String methodScope = methodScope(host, endpoint);
+        long wait = cluster.take(appScope, appWindows, now);
+        if (wait > 0) return wait;
+        wait = cluster.take(methodScope, methodWindows, now);
+        if (wait > 0) {
+            cluster.giveBack(appScope, now);
+            return wait;
+        }
+        wait = budget.tryAcquire(endpoint, now);
+        if (wait > 0) {
+            cluster.giveBack(appScope, now);
+            cluster.giveBack(methodScope, now);
+        }
+        return wait;
+    }
+
+    /**
+     * Share of the budget still free for {@code endpoint} on {@code host}, taking the tighter of the
+     * app and method limits. Lets background work back off before it would delay interactive calls.
+     */
+    public double headroom(String host, RiotEndpoint endpoint) {
+        HostBudget budget = budget(host);
+        long now = System.currentTimeMillis();
+
+        budget.lock.lock();
+        try {
+            return Math.min(budget.app.headroom(now), budget.method(endpoint).headroom(now));
+        } finally {
+            budget.lock.unlock();
+        }
+    }
+
+    public void onResponse(String host, RiotEndpoint endpoint, int status, HttpHeaders headers) {
+        HostBudget budget = budget(host);
+        long now = System.currentTimeMillis();
+        String blockedScope = null;
+        long blockedUntil = 0;
+
+        budget.lock.lock();
+        try {
+            budget.app.updateLimits(headers.getFirst("X-App-Rate-Limit"));
+            budget.app.syncCounts(headers.getFirst("X-App-Rate-Limit-Count"), now);
+            RateLimitBucket method = budget.method(endpoint);
+            method.updateLimits(headers.getFirst("X-Method-Rate-Limit"));
+            method.syncCounts(headers.getFirst("X-Method-Rate-Limit-Count"), now);
+
+            if (status == 429) {
+                long retryAfterMillis = parseRetryAfter(headers.getFirst(HttpHeaders.RETRY_AFTER));
+                String type = headers.getFirst("X-Rate-Limit-Type");
+                log.warn("Riot 429 on {} {} (type={}, retryAfter={}ms)", host, endpoint.tag(), type, retryAfterMillis);
+                blockedUntil = now + retryAfterMillis;
+                if ("application".equals(type)) {
+                    budget.app.blockUntil(blockedUntil);
+                    blockedScope = appScope(host);
+                } else {
+                    method.blockUntil(blockedUntil);
+                    blockedScope = methodScope(host, endpoint);
+                }
+            }
+        } finally {
+            budget.lock.unlock();
+        }
+        if (cluster != null && blockedScope != null) {
+            cluster.block(blockedScope, blockedUntil);
+        }
+    }
+
+    private HostBudget budget(String host) {
+        return budgets.computeIfAbsent(host, h -> new HostBudget(defaultAppLimits));
+    }
+
+    private static String appScope(String host) {
+        return host + ":app";
+    }
+
+    private static String methodScope(String host, RiotEndpoint endpoint) {
+        return host + ':' + endpoint.tag();
+    }
+
+    private static long parseRetryAfter(String value) {
+        if (value == null) return 1000;
+        try {
+            return Long.parseLong(value.trim()) * 1000;
+        } catch (NumberFormatException e) {
+            return 1000;
+        }
+    }
+
+    private static final class HostBudget {
+        final ReentrantLock lock = new ReentrantLock();
+        final RateLimitBucket app;
+        final Map<RiotEndpoint, RateLimitBucket> methods = new EnumMap<>(RiotEndpoint.class);
+
+        HostBudget(String appLimits) {
+            this.app = new RateLimitBucket(appLimits);
+        }
+
+        /** Method limits are unknown until Riot reports them in X-Method-Rate-Limit. */
+        RateLimitBucket method(RiotEndpoint endpoint) {
+            return methods.computeIfAbsent(endpoint, e -> new RateLimitBucket(""));
+        }
+
+        long tryAcquire(RiotEndpoint endpoint, long now) {
+            lock.lock();
+            try {
+                RateLimitBucket method = method(endpoint);
+                long wait = Math.max(app.waitMillis(now), method.waitMillis(now));
+                if (wait == 0) {
+                    app.consume(now);
+                    method.consume(now);
+                }
+                return wait;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.lolgg.client;
+
+/**
+ * Riot routing hosts this app calls: the regional cluster (account-v1, match-v5)
+ * and the platform host (summoner-v4, league-v4).
+ */
+public enum RiotRoute {
+
+    ASIA("asia"),
+    KR("kr");
+
+    private final String tag;
+
+    RiotRoute(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+}
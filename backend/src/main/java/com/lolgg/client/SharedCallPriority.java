@@ -0,0 +1,54 @@
+package com.lolgg.client;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Scheduling class of a load that several callers share, such as one {@code TierCache} load per
+ * puuid. The load starts at its initiator's class; a more urgent caller that joins it can
+ * {@link #raise} it, and a call of the load still queued in a {@link RiotCallScheduler} is moved
+ * to the new class instead of being dropped at the old one's deadline.
+ */
+public final class SharedCallPriority {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private RiotPriority priority;
+    private Runnable onRaise;
+
+    public SharedCallPriority(RiotPriority priority) {
+        this.priority = priority;
+    }
+
+    public RiotPriority get() {
+        lock.lock();
+        try {
+            return priority;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void raise(RiotPriority to) {
+        Runnable listener;
+        lock.lock();
+        try {
+            if (to.ordinal() >= priority.ordinal()) return;
+            priority = to;
+            listener = onRaise;
+        } finally {
+            lock.unlock();
+        }
+        if (listener != null) listener.run();
+    }
+
+    /**
+     * @param listener run after each raise while set; null to clear
+     */
+    void onRaise(Runnable listener) {
+        lock.lock();
+        try {
+            onRaise = listener;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
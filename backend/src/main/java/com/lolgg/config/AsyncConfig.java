@@ -0,0 +1,24 @@
+package com.lolgg.config;
+
+import com.lolgg.client.RiotCallContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * Executor for fan-out Riot API calls. Each task gets its own virtual thread,
+     * so blocking RestClient calls don't tie up platform threads.
+     * <p>
+     * The thread is created on the submitting thread, which lets each task inherit the
+     * submitter's {@link RiotCallContext} and keep its scheduling class.
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService riotExecutor() {
+        return Executors.newThreadPerTaskExecutor(task -> Thread.ofVirtual().unstarted(RiotCallContext.wrap(task)));
+    }
+}
@@ -0,0 +1,79 @@
+package com.lolgg.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.lolgg.dto.response.CompactMatchPage;
+import com.lolgg.dto.response.MatchResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Writes a {@code List<MatchResponse>} as a {@link CompactMatchPage} when the client asks for
+ * {@code application/vnd.lolgg.compact+json} or {@code application/vnd.lolgg.compact+cbor}.
+ * Registered ahead of Jackson, whose {@code application/*+json} would also match the compact JSON
+ * type; {@code MatchController} lists plain JSON first in {@code produces}, so it stays the default.
+ */
+public class CompactMatchHttpMessageConverter extends AbstractGenericHttpMessageConverter<List<MatchResponse>> {
+
+    public static final String COMPACT_JSON_VALUE = "application/vnd.lolgg.compact+json";
+    public static final String COMPACT_CBOR_VALUE = "application/vnd.lolgg.compact+cbor";
+    public static final MediaType COMPACT_JSON = MediaType.parseMediaType(COMPACT_JSON_VALUE);
+    public static final MediaType COMPACT_CBOR = MediaType.parseMediaType(COMPACT_CBOR_VALUE);
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper = new CBORMapper();
+
+    public CompactMatchHttpMessageConverter(ObjectMapper jsonMapper) {
+        super(COMPACT_JSON, COMPACT_CBOR);
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return type instanceof ParameterizedType parameterized
+                && parameterized.getRawType() == List.class
+                && parameterized.getActualTypeArguments()[0] == MatchResponse.class
+                && canWrite(mediaType);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return List.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected void writeInternal(List<MatchResponse> matches, Type type, HttpOutputMessage outputMessage)
+            throws IOException {
+        MediaType contentType = outputMessage.getHeaders().getContentType();
+        ObjectMapper mapper = COMPACT_CBOR.isCompatibleWith(contentType) ? cborMapper : jsonMapper;
+        mapper.writeValue(outputMessage.getBody(), CompactMatchPage.from(matches));
+    }
+
+    @Override
+    public List<MatchResponse> read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Compact match pages are write-only", inputMessage);
+    }
+
+    @Override
+    protected List<MatchResponse> readInternal(Class<? extends List<MatchResponse>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Compact match pages are write-only", inputMessage);
+    }
+}
@@ -0,0 +1,28 @@
+package com.lolgg.config;
+
+import com.lolgg.store.MatchStore;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder matchStoreMetrics(MatchStore matchStore) {
+        return registry -> {
+            FunctionCounter.builder("match.store.requests", matchStore, MatchStore::hitCount)
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("match.store.requests", matchStore, MatchStore::missCount)
+                    .tag("result", "miss")
+                    .register(registry);
+            Gauge.builder("match.store.size", matchStore, MatchStore::size)
+                    .register(registry);
+            Gauge.builder("match.store.corrupt", matchStore, MatchStore::corruptCount)
+                    .register(registry);
+        };
+    }
+}
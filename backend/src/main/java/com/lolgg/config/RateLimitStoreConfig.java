@@ -0,0 +1,33 @@
+package com.lolgg.config;
+
+import com.lolgg.client.InMemoryRateLimitStore;
+import com.lolgg.client.RedisRateLimitStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Shared {@link com.lolgg.client.RateLimitStore} for nodes running on one Riot API key.
+ * {@code riot.rate-limit.cluster.store} selects {@code redis} or {@code local} (in-JVM stand-in);
+ * with {@code none} (the default) each node only enforces its local budget.
+ */
+@Configuration
+public class RateLimitStoreConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "riot.rate-limit.cluster.store", havingValue = "redis")
+    public RedisRateLimitStore redisRateLimitStore(
+            @Value("${riot.rate-limit.cluster.redis-uri:redis://localhost:6379}") String uri,
+            @Value("${riot.rate-limit.cluster.timeout:200ms}") Duration timeout) {
+        return new RedisRateLimitStore(uri, timeout);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "riot.rate-limit.cluster.store", havingValue = "local")
+    public InMemoryRateLimitStore localRateLimitStore() {
+        return new InMemoryRateLimitStore();
+    }
+}
@@ -0,0 +1,33 @@
+package com.lolgg.config;
+
+import com.lolgg.cache.InMemoryRemoteCacheStore;
+import com.lolgg.cache.RedisRemoteCacheStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Shared {@link com.lolgg.cache.RemoteCacheStore} behind the tier, account and match caches. {@code riot.remote-cache.type}
+ * selects {@code redis} for multi-node deployments or {@code local} for an in-JVM stand-in;
+ * with {@code none} (the default) no store is registered and every cache stays node-local.
+ */
+@Configuration
+public class RemoteCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "riot.remote-cache.type", havingValue = "redis")
+    public RedisRemoteCacheStore redisRemoteCacheStore(
+            @Value("${riot.remote-cache.redis-uri:redis://localhost:6379}") String uri,
+            @Value("${riot.remote-cache.timeout:200ms}") Duration timeout) {
+        return new RedisRemoteCacheStore(uri, timeout);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "riot.remote-cache.type", havingValue = "local")
+    public InMemoryRemoteCacheStore localRemoteCacheStore() {
+        return new InMemoryRemoteCacheStore();
+    }
+}
@@ -1,34 +1,66 @@
 package com.lolgg.config;
 
+import com.lolgg.client.GzipDecodingInterceptor;
+import com.lolgg.client.RiotHttpClientFactory;
+import com.lolgg.client.RiotMetricsInterceptor;
+import com.lolgg.client.RiotPayloadHttpMessageConverter;
+import com.lolgg.client.RiotRateLimitInterceptor;
+import com.lolgg.client.RiotRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 
 @Configuration
+@EnableConfigurationProperties({RiotHttpProperties.class, RiotResilienceProperties.class, RiotSchedulerProperties.class})
+@RequiredArgsConstructor
 public class RiotApiConfig {
 
+    private final RiotRateLimiter rateLimiter;
+    private final RiotHttpProperties httpProperties;
+    private final MeterRegistry meterRegistry;
+    private final ObservationRegistry observationRegistry;
+
     @Value("${riot.api.key}")
     private String apiKey;
 
+    @Value("${riot.api.asia-url:https://asia.api.riotgames.com}")
+    private String asiaUrl;
+
+    @Value("${riot.api.kr-url:https://kr.api.riotgames.com}")
+    private String krUrl;
+
     @Bean
     public RestClient asiaRestClient() {
-        return buildClient("https://asia.api.riotgames.com");
+        return buildClient(asiaUrl);
     }
 
     @Bean
     public RestClient krRestClient() {
-        return buildClient("https://kr.api.riotgames.com");
+        return buildClient(krUrl);
     }
 
     private RestClient buildClient(String baseUrl) {
         DefaultUriBuilderFactory factory = new DefaultUriBuilderFactory(baseUrl);
         factory.setEncodingMode(DefaultUriBuilderFactory.EncodingMode.VALUES_ONLY);
 
-        return RestClient.builder()
+        RestClient.Builder builder = RestClient.builder()
                 .uriBuilderFactory(factory)
+                .requestFactory(RiotHttpClientFactory.create(httpProperties))
                 .defaultHeader("X-Riot-Token", apiKey)
-                .build();
+                .observationRegistry(observationRegistry)
+                .requestInterceptor(new RiotMetricsInterceptor(meterRegistry))
+                .requestInterceptor(new RiotRateLimitInterceptor(rateLimiter))
+                .messageConverters(converters -> converters.add(0, new RiotPayloadHttpMessageConverter()));
+
+        if (httpProperties.gzip() && httpProperties.engine() == RiotHttpProperties.Engine.JDK) {
+            builder.requestInterceptor(new GzipDecodingInterceptor());
+        }
+        return builder.build();
     }
 }
@@ -0,0 +1,42 @@
+package com.lolgg.config;
+
+import com.lolgg.client.RiotCallContext;
+import com.lolgg.client.RiotPriority;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Tags each API request with the {@link RiotCallContext} its Riot calls are scheduled under:
+ * the class follows from the endpoint, and the client is the caller's IP.
+ * <p>
+ * The IP is {@link HttpServletRequest#getRemoteAddr()}. With {@code server.forward-headers-strategy}
+ * set, Tomcat rewrites it from {@code X-Forwarded-For} only through trusted proxies, so a client
+ * can't pick a fresh flow per request by sending its own header.
+ */
+public class RiotCallContextInterceptor implements AsyncHandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RiotCallContext.set(new RiotCallContext(priorityOf(request.getRequestURI()), request.getRemoteAddr()));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        RiotCallContext.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        RiotCallContext.clear();
+    }
+
+    private static RiotPriority priorityOf(String path) {
+        if (path.startsWith("/api/summoner")) return RiotPriority.INTERACTIVE_PROFILE;
+        if (path.startsWith("/api/tiers")) return RiotPriority.TIER_PREFETCH;
+        return RiotPriority.MATCH_PAGE;
+    }
+}
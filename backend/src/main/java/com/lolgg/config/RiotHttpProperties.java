@@ -0,0 +1,35 @@
+package com.lolgg.config;
+
+import com.lolgg.client.RiotEndpoint;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * HTTP engine settings for the Riot RestClients ({@code riot.http.*}).
+ *
+ * @param engine                 {@code jdk} (java.net.http, HTTP/2) or {@code apache} (HttpClient 5 classic, HTTP/1.1)
+ * @param maxConnectionsPerHost  pool size per routing host; only used by the apache engine
+ * @param endpointReadTimeouts   read timeout overrides keyed by {@link RiotEndpoint}, e.g. {@code match-by-id: 8s}
+ */
+@ConfigurationProperties(prefix = "riot.http")
+public record RiotHttpProperties(
+        @DefaultValue("jdk") Engine engine,
+        @DefaultValue("2s") Duration connectTimeout,
+        @DefaultValue("5s") Duration readTimeout,
+        @DefaultValue("50") int maxConnectionsPerHost,
+        @DefaultValue("true") boolean http2,
+        @DefaultValue("true") boolean gzip,
+        Map<RiotEndpoint, Duration> endpointReadTimeouts
+) {
+    public enum Engine {
+        JDK, APACHE
+    }
+
+    public Duration readTimeout(RiotEndpoint endpoint) {
+        if (endpointReadTimeouts == null) return readTimeout;
+        return endpointReadTimeouts.getOrDefault(endpoint, readTimeout);
+    }
+}
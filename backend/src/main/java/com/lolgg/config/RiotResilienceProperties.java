@@ -0,0 +1,40 @@
+package com.lolgg.config;
+
+import com.lolgg.client.RiotBulkhead;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Retry, circuit breaker, hedging and bulkhead settings for Riot calls ({@code riot.resilience.*}).
+ *
+ * @param maxAttempts        attempts per call, including the first
+ * @param maxRetryAfter      a 429 asking to wait longer than this is not retried
+ * @param breakerWindow      number of recent calls per host the failure rate is computed over
+ * @param breakerMinCalls    calls needed in the window before the breaker may open
+ * @param hedgeDelay         a match fetch still running after this gets a second, parallel attempt; 0 disables
+ * @param bulkheads          concurrent calls allowed per {@link RiotBulkhead}, e.g. {@code tiers: 16}
+ */
+@ConfigurationProperties(prefix = "riot.resilience")
+public record RiotResilienceProperties(
+        @DefaultValue("3") int maxAttempts,
+        @DefaultValue("200ms") Duration baseBackoff,
+        @DefaultValue("2s") Duration maxBackoff,
+        @DefaultValue("3s") Duration maxRetryAfter,
+        @DefaultValue("20") int breakerWindow,
+        @DefaultValue("10") int breakerMinCalls,
+        @DefaultValue("0.5") double breakerFailureRate,
+        @DefaultValue("10s") Duration breakerOpenDuration,
+        @DefaultValue("1s") Duration hedgeDelay,
+        @DefaultValue("2s") Duration bulkheadWait,
+        Map<RiotBulkhead, Integer> bulkheads
+) {
+    private static final int DEFAULT_BULKHEAD = 64;
+
+    public int bulkhead(RiotBulkhead bulkhead) {
+        if (bulkheads == null) return DEFAULT_BULKHEAD;
+        return bulkheads.getOrDefault(bulkhead, DEFAULT_BULKHEAD);
+    }
+}
@@ -0,0 +1,32 @@
+package com.lolgg.config;
+
+import com.lolgg.client.RiotPriority;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Priority scheduling of Riot calls ({@code riot.scheduler.*}).
+ *
+ * @param maxInFlight concurrent calls per routing host; beyond this, calls queue in weighted fair order
+ * @param weights     share per {@link RiotPriority} under contention, e.g. {@code tier-prefetch: 2}
+ * @param maxWait     how long a call of each class may stay queued before it is dropped
+ */
+@ConfigurationProperties(prefix = "riot.scheduler")
+public record RiotSchedulerProperties(
+        @DefaultValue("16") int maxInFlight,
+        Map<RiotPriority, Integer> weights,
+        Map<RiotPriority, Duration> maxWait
+) {
+    public int weight(RiotPriority priority) {
+        if (weights == null) return priority.defaultWeight();
+        return weights.getOrDefault(priority, priority.defaultWeight());
+    }
+
+    public long maxWaitMillis(RiotPriority priority) {
+        if (maxWait == null || !maxWait.containsKey(priority)) return priority.defaultMaxWaitMillis();
+        return maxWait.get(priority).toMillis();
+    }
+}
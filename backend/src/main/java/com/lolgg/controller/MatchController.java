@@ -1,8 +1,10 @@
 package com.lolgg.controller;
 
+import com.lolgg.config.CompactMatchHttpMessageConverter;
 import com.lolgg.dto.response.MatchResponse;
 import com.lolgg.service.SummonerAggregationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -14,7 +16,13 @@ public class MatchController {
 
     private final SummonerAggregationService aggregationService;
 
-    @GetMapping("/{puuid}")
+    /**
+     * Plain JSON unless the client asks for one of the compact encodings.
+     */
+    @GetMapping(path = "/{puuid}", produces = {
+            MediaType.APPLICATION_JSON_VALUE,
+            CompactMatchHttpMessageConverter.COMPACT_JSON_VALUE,
+            CompactMatchHttpMessageConverter.COMPACT_CBOR_VALUE})
     public List<MatchResponse> getMatches(
             @PathVariable String puuid,
             @RequestParam(defaultValue = "0") int start,
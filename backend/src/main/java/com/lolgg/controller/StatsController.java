@@ -0,0 +1,21 @@
+package com.lolgg.controller;
+
+import com.lolgg.dto.response.SummonerStatsResponse;
+import com.lolgg.service.SummonerStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+public class StatsController {
+
+    private final SummonerStatsService statsService;
+
+    @GetMapping("/{puuid}")
+    public SummonerStatsResponse getStats(
+            @PathVariable String puuid,
+            @RequestParam(required = false) Integer queue) {
+        return statsService.getStats(puuid, queue);
+    }
+}
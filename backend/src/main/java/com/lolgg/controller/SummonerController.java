@@ -1,24 +1,62 @@
 package com.lolgg.controller;
 
+import com.lolgg.cache.ProfileCache;
+import com.lolgg.dto.request.SummonerBatchRequest;
+import com.lolgg.dto.response.SummonerBatchEntry;
 import com.lolgg.dto.response.SummonerResponse;
-import com.lolgg.service.SummonerAggregationService;
+import com.lolgg.service.SummonerBatchService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/summoner")
 @RequiredArgsConstructor
 public class SummonerController {
 
-    private final SummonerAggregationService aggregationService;
+    private final ProfileCache profileCache;
+    private final SummonerBatchService batchService;
 
+    /**
+     * Serves the cached profile; {@code force} reloads it from Riot first. Clients revalidate
+     * with {@code If-None-Match} / {@code If-Modified-Since} and get {@code 304} while unchanged.
+     */
     @GetMapping
-    public SummonerResponse getSummoner(
+    public ResponseEntity<SummonerResponse> getSummoner(
             @RequestParam String gameName,
-            @RequestParam String tagLine) {
-        return aggregationService.getSummonerInfo(gameName, tagLine);
+            @RequestParam String tagLine,
+            @RequestParam(defaultValue = "false") boolean force,
+            WebRequest request) {
+        ProfileCache.Entry entry = force
+                ? profileCache.refresh(gameName, tagLine)
+                : profileCache.get(gameName, tagLine);
+
+        if (request.checkNotModified(entry.etag(), entry.lastModified().toEpochMilli())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(entry.etag())
+                .lastModified(entry.lastModified())
+                .body(entry.profile());
+    }
+
+    /**
+     * Looks up several Riot IDs at once (multi-search, lobby paste). Each entry carries its own
+     * status, so one unknown player doesn't fail the others.
+     */
+    @PostMapping("/batch")
+    public CompletableFuture<List<SummonerBatchEntry>> getSummoners(@RequestBody SummonerBatchRequest request) {
+        return batchService.lookup(request);
     }
 }
@@ -1,26 +1,62 @@
 package com.lolgg.controller;
 
+import com.lolgg.dto.response.TierEvent;
 import com.lolgg.service.SummonerAggregationService;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/tiers")
 @RequiredArgsConstructor
 public class TierController {
 
+    private static final Logger log = LoggerFactory.getLogger(TierController.class);
+
+    private static final long STREAM_TIMEOUT_MS = 60_000;
+
     private final SummonerAggregationService aggregationService;
 
     @PostMapping
-    public Map<String, Object> getTiers(@RequestBody List<String> puuids) {
-        Map<String, String> tiers = aggregationService.getTiers(puuids);
-        String averageTier = aggregationService.calculateAverageTier(puuids);
-        return Map.of(
-                "tiers", tiers,
-                "averageTier", averageTier != null ? averageTier : ""
-        );
+    public CompletableFuture<Map<String, Object>> getTiers(@RequestBody List<String> puuids) {
+        return aggregationService.getTiers(puuids).thenApply(tiers -> {
+            String averageTier = aggregationService.calculateAverageTier(puuids);
+            return Map.of(
+                    "tiers", tiers,
+                    "averageTier", averageTier != null ? averageTier : ""
+            );
+        });
+    }
+
+    /**
+     * Streams {@code tier} events as each puuid resolves (cached ones first),
+     * followed by a single {@code averageTier} event.
+     */
+    @PostMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTiers(@RequestBody List<String> puuids) {
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+        aggregationService.streamTiers(puuids, (puuid, tier) -> send(emitter, "tier", new TierEvent(puuid, tier)))
+                .whenComplete((ignored, e) -> {
+                    String averageTier = aggregationService.calculateAverageTier(puuids);
+                    send(emitter, "averageTier", Map.of("averageTier", averageTier != null ? averageTier : ""));
+                    emitter.complete();
+                });
+        return emitter;
+    }
+
+    private void send(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Tier stream closed by client - {}", e.getMessage());
+        }
     }
 }
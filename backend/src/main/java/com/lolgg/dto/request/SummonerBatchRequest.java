@@ -0,0 +1,13 @@
+package com.lolgg.dto.request;
+
+import java.util.List;
+
+public record SummonerBatchRequest(
+        List<RiotId> riotIds,
+        boolean includeMatches
+) {
+    public record RiotId(
+            String gameName,
+            String tagLine
+    ) {}
+}
@@ -0,0 +1,94 @@
+package com.lolgg.dto.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Columnar encoding of a {@link MatchResponse} page. Participant field names are sent once in
+ * {@code fields} and each participant is a row of values; {@code teamId}/{@code win} are stored
+ * once per team, and {@code currentPlayer} is an index into {@code participants} (-1 if absent).
+ */
+public record CompactMatchPage(
+        List<String> fields,
+        List<CompactMatch> matches
+) {
+    public static final List<String> PARTICIPANT_FIELDS = List.of(
+            "puuid", "gameName", "tagLine", "championName", "champLevel",
+            "kills", "deaths", "assists", "cs", "goldEarned",
+            "totalDamageDealtToChampions", "visionScore", "items", "summoner1Id", "summoner2Id",
+            "teamPosition", "team", "killParticipation", "earlyLaningPhaseGoldExpAdvantage",
+            "laningPhaseGoldExpAdvantage", "laneMinionsFirst10Minutes", "goldPerMinute", "tier"
+    );
+
+    public record CompactMatch(
+            String matchId,
+            long gameDuration,
+            long gameCreation,
+            String gameMode,
+            int queueId,
+            String averageTier,
+            int currentPlayer,
+            List<Team> teams,
+            List<List<Object>> participants
+    ) {}
+
+    public record Team(
+            int teamId,
+            boolean win
+    ) {}
+
+    public static CompactMatchPage from(List<MatchResponse> matches) {
+        List<CompactMatch> compact = new ArrayList<>(matches.size());
+        for (MatchResponse match : matches) {
+            compact.add(compact(match));
+        }
+        return new CompactMatchPage(PARTICIPANT_FIELDS, compact);
+    }
+
+    private static CompactMatch compact(MatchResponse match) {
+        List<Team> teams = new ArrayList<>(2);
+        List<List<Object>> rows = new ArrayList<>(match.participants().size());
+        int currentPlayer = -1;
+
+        for (MatchResponse.ParticipantInfo p : match.participants()) {
+            int team = teamIndex(teams, p);
+            if (match.currentPlayer() != null && p.puuid().equals(match.currentPlayer().puuid())) {
+                currentPlayer = rows.size();
+            }
+            rows.add(List.of(
+                    p.puuid(), nullToEmpty(p.gameName()), nullToEmpty(p.tagLine()), p.championName(), p.champLevel(),
+                    p.kills(), p.deaths(), p.assists(), p.cs(), p.goldEarned(),
+                    p.totalDamageDealtToChampions(), p.visionScore(),
+                    new int[]{p.item0(), p.item1(), p.item2(), p.item3(), p.item4(), p.item5(), p.item6()},
+                    p.summoner1Id(), p.summoner2Id(),
+                    nullToEmpty(p.teamPosition()), team, p.killParticipation(), p.earlyLaningPhaseGoldExpAdvantage(),
+                    p.laningPhaseGoldExpAdvantage(), p.laneMinionsFirst10Minutes(), p.goldPerMinute(),
+                    nullToEmpty(p.tier())
+            ));
+        }
+
+        return new CompactMatch(
+                match.matchId(),
+                match.gameDuration(),
+                match.gameCreation(),
+                match.gameMode(),
+                match.queueId(),
+                match.averageTier(),
+                currentPlayer,
+                teams,
+                rows
+        );
+    }
+
+    private static int teamIndex(List<Team> teams, MatchResponse.ParticipantInfo p) {
+        for (int i = 0; i < teams.size(); i++) {
+            if (teams.get(i).teamId() == p.teamId()) return i;
+        }
+        teams.add(new Team(p.teamId(), p.win()));
+        return teams.size() - 1;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
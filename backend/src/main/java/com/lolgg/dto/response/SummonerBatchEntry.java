@@ -0,0 +1,17 @@
+package com.lolgg.dto.response;
+
+import java.util.List;
+
+/**
+ * One Riot ID of a batch lookup. {@code status} mirrors what {@code GET /api/summoner} would have
+ * answered; {@code summoner} is null unless it is 200, and {@code matches} is null unless requested
+ * and fetched.
+ */
+public record SummonerBatchEntry(
+        String gameName,
+        String tagLine,
+        int status,
+        String error,
+        SummonerResponse summoner,
+        List<MatchResponse> matches
+) {}
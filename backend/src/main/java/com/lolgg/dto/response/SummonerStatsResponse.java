@@ -0,0 +1,28 @@
+package com.lolgg.dto.response;
+
+import java.util.List;
+
+/**
+ * Aggregates over the matches of {@code puuid} the server has seen so far, per champion and queue.
+ */
+public record SummonerStatsResponse(
+        String puuid,
+        int games,
+        int wins,
+        List<ChampionStats> champions
+) {
+    public record ChampionStats(
+            int championId,
+            String championName,
+            int queueId,
+            int games,
+            int wins,
+            double avgKills,
+            double avgDeaths,
+            double avgAssists,
+            double kda,
+            double killParticipation,
+            double goldPerMinute,
+            double laningPhaseGoldExpAdvantage
+    ) {}
+}
@@ -0,0 +1,6 @@
+package com.lolgg.dto.response;
+
+public record TierEvent(
+        String puuid,
+        String tier
+) {}
@@ -0,0 +1,49 @@
+package com.lolgg.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.util.concurrent.CompletionException;
+
+/**
+ * The one mapping from a failure to the status and message a client sees, used by
+ * {@link GlobalExceptionHandler} for whole requests and by batch lookups per entry.
+ * {@code retryAfterSeconds} is null when the response carries no Retry-After.
+ */
+public record ApiError(HttpStatus status, String message, Long retryAfterSeconds) {
+
+    public static ApiError of(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof HttpClientErrorException.NotFound) {
+            return new ApiError(HttpStatus.NOT_FOUND, "Summoner not found", null);
+        }
+        if (cause instanceof HttpClientErrorException.TooManyRequests) {
+            return new ApiError(HttpStatus.TOO_MANY_REQUESTS, "Rate limit exceeded. Please try again later.", null);
+        }
+        if (cause instanceof RiotRateLimitException limited) {
+            return new ApiError(HttpStatus.TOO_MANY_REQUESTS, "Rate limit exceeded. Please try again later.",
+                    limited.getRetryAfterSeconds());
+        }
+        if (cause instanceof RiotUnavailableException unavailable) {
+            return new ApiError(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Riot API is temporarily unavailable. Please try again later.", unavailable.getRetryAfterSeconds());
+        }
+        if (cause instanceof HttpClientErrorException client) {
+            HttpStatus status = HttpStatus.resolve(client.getStatusCode().value());
+            return status != null
+                    ? new ApiError(status, "Riot API error: " + client.getStatusText(), null)
+                    : new ApiError(HttpStatus.BAD_GATEWAY, "Riot API is temporarily unavailable", null);
+        }
+        if (cause instanceof HttpServerErrorException) {
+            return new ApiError(HttpStatus.BAD_GATEWAY, "Riot API is temporarily unavailable", null);
+        }
+        if (cause instanceof TaskTimeoutException) {
+            return new ApiError(HttpStatus.GATEWAY_TIMEOUT, "Riot API did not respond in time", null);
+        }
+        if (cause instanceof InvalidRequestException) {
+            return new ApiError(HttpStatus.BAD_REQUEST, cause.getMessage(), null);
+        }
+        return new ApiError(HttpStatus.INTERNAL_SERVER_ERROR, "Internal server error", null);
+    }
+}
@@ -1,44 +1,22 @@
 package com.lolgg.exception;
 
-import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.HttpServerErrorException;
 
 import java.util.Map;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
-    @ExceptionHandler(HttpClientErrorException.NotFound.class)
-    public ResponseEntity<Map<String, String>> handleNotFound(HttpClientErrorException.NotFound e) {
-        return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                .body(Map.of("error", "Summoner not found"));
-    }
-
-    @ExceptionHandler(HttpClientErrorException.TooManyRequests.class)
-    public ResponseEntity<Map<String, String>> handleRateLimit(HttpClientErrorException.TooManyRequests e) {
-        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
-                .body(Map.of("error", "Rate limit exceeded. Please try again later."));
-    }
-
-    @ExceptionHandler(HttpClientErrorException.class)
-    public ResponseEntity<Map<String, String>> handleClientError(HttpClientErrorException e) {
-        return ResponseEntity.status(e.getStatusCode())
-                .body(Map.of("error", "Riot API error: " + e.getStatusText()));
-    }
-
-    @ExceptionHandler(HttpServerErrorException.class)
-    public ResponseEntity<Map<String, String>> handleServerError(HttpServerErrorException e) {
-        return ResponseEntity.status(HttpStatus.BAD_GATEWAY)
-                .body(Map.of("error", "Riot API is temporarily unavailable"));
-    }
-
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<Map<String, String>> handleGeneral(Exception e) {
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(Map.of("error", "Internal server error"));
+    public ResponseEntity<Map<String, String>> handle(Exception e) {
+        ApiError error = ApiError.of(e);
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(error.status());
+        if (error.retryAfterSeconds() != null) {
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(error.retryAfterSeconds()));
+        }
+        return response.body(Map.of("error", error.message()));
     }
 }
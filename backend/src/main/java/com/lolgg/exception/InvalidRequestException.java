@@ -0,0 +1,11 @@
+package com.lolgg.exception;
+
+/**
+ * Thrown when a request is malformed or exceeds a server-side limit.
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,20 @@
+package com.lolgg.exception;
+
+import com.lolgg.client.RiotEndpoint;
+
+/**
+ * Thrown when a Riot call would have to wait longer than allowed for the shared rate budget.
+ */
+public class RiotRateLimitException extends RuntimeException {
+
+    private final long retryAfterMillis;
+
+    public RiotRateLimitException(String host, RiotEndpoint endpoint, long retryAfterMillis) {
+        super("Riot rate budget exhausted for " + host + " " + endpoint.tag());
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (retryAfterMillis + 999) / 1000);
+    }
+}
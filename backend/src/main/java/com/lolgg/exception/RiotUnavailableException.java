@@ -0,0 +1,18 @@
+package com.lolgg.exception;
+
+/**
+ * Thrown without calling Riot when the host's circuit is open or the caller's bulkhead is full.
+ */
+public class RiotUnavailableException extends RuntimeException {
+
+    private final long retryAfterMillis;
+
+    public RiotUnavailableException(String message, long retryAfterMillis) {
+        super(message);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (retryAfterMillis + 999) / 1000);
+    }
+}
@@ -0,0 +1,11 @@
+package com.lolgg.exception;
+
+/**
+ * Thrown when one step of a concurrently assembled response exceeds its timeout.
+ */
+public class TaskTimeoutException extends RuntimeException {
+
+    public TaskTimeoutException(String task) {
+        super("Timed out waiting for " + task);
+    }
+}
@@ -0,0 +1,142 @@
+package com.lolgg.service;
+
+import com.lolgg.dto.response.SummonerStatsResponse;
+import com.lolgg.dto.riot.MatchParticipantDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Running sums for one player, one slot per (champion, queue), kept in parallel primitive arrays
+ * so adding a game is a handful of array writes. Each match is counted at most once.
+ * <p>
+ * Only the newest {@value #MAX_TRACKED_MATCHES} counted match IDs are remembered; a match that
+ * started before the oldest remembered one can't be checked for duplicates and is ignored.
+ */
+final class ChampionAggregates {
+
+    private static final int INITIAL_SLOTS = 8;
+    private static final int MAX_TRACKED_MATCHES = 1000;
+
+    private record Counted(String matchId, long gameCreation) {}
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Set<String> countedMatches = new HashSet<>();
+    private final PriorityQueue<Counted> countedByAge = new PriorityQueue<>(Comparator.comparingLong(Counted::gameCreation));
+    /** Matches created at or before this are no longer tracked, see the class comment. */
+    private long forgottenUntil = Long.MIN_VALUE;
+
+    private int size;
+    private int[] championIds = new int[INITIAL_SLOTS];
+    private int[] queueIds = new int[INITIAL_SLOTS];
+    private String[] championNames = new String[INITIAL_SLOTS];
+    private int[] games = new int[INITIAL_SLOTS];
+    private int[] wins = new int[INITIAL_SLOTS];
+    private int[] kills = new int[INITIAL_SLOTS];
+    private int[] deaths = new int[INITIAL_SLOTS];
+    private int[] assists = new int[INITIAL_SLOTS];
+    /** Games that reported challenges; the challenge sums below are averaged over these. */
+    private int[] challengeGames = new int[INITIAL_SLOTS];
+    private double[] killParticipation = new double[INITIAL_SLOTS];
+    private double[] goldPerMinute = new double[INITIAL_SLOTS];
+    private int[] laningAdvantage = new int[INITIAL_SLOTS];
+
+    /**
+     * @return false if the match was already counted, or is too old to tell
+     */
+    boolean add(String matchId, long gameCreation, int queueId, MatchParticipantDto p) {
+        lock.lock();
+        try {
+            if (gameCreation <= forgottenUntil || !countedMatches.add(matchId)) return false;
+            countedByAge.add(new Counted(matchId, gameCreation));
+            if (countedByAge.size() > MAX_TRACKED_MATCHES) {
+                Counted oldest = countedByAge.poll();
+                countedMatches.remove(oldest.matchId());
+                forgottenUntil = Math.max(forgottenUntil, oldest.gameCreation());
+            }
+
+            int slot = slot(p.championId(), queueId, p.championName());
+            games[slot]++;
+            if (p.win()) wins[slot]++;
+            kills[slot] += p.kills();
+            deaths[slot] += p.deaths();
+            assists[slot] += p.assists();
+
+            var challenges = p.challenges();
+            if (challenges != null) {
+                challengeGames[slot]++;
+                killParticipation[slot] += challenges.killParticipation();
+                goldPerMinute[slot] += challenges.goldPerMinute();
+                laningAdvantage[slot] += challenges.laningPhaseGoldExpAdvantage();
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param queueId only this queue, or null for every queue
+     */
+    List<SummonerStatsResponse.ChampionStats> snapshot(Integer queueId) {
+        lock.lock();
+        try {
+            List<SummonerStatsResponse.ChampionStats> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                if (queueId != null && queueIds[i] != queueId) continue;
+                int n = games[i];
+                int c = challengeGames[i];
+                result.add(new SummonerStatsResponse.ChampionStats(
+                        championIds[i],
+                        championNames[i],
+                        queueIds[i],
+                        n,
+                        wins[i],
+                        (double) kills[i] / n,
+                        (double) deaths[i] / n,
+                        (double) assists[i] / n,
+                        (double) (kills[i] + assists[i]) / Math.max(1, deaths[i]),
+                        c > 0 ? killParticipation[i] / c : 0,
+                        c > 0 ? goldPerMinute[i] / c : 0,
+                        c > 0 ? (double) laningAdvantage[i] / c : 0
+                ));
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int slot(int championId, int queueId, String championName) {
+        for (int i = 0; i < size; i++) {
+            if (championIds[i] == championId && queueIds[i] == queueId) return i;
+        }
+        if (size == championIds.length) grow();
+        championIds[size] = championId;
+        queueIds[size] = queueId;
+        championNames[size] = championName;
+        return size++;
+    }
+
+    private void grow() {
+        int capacity = size * 2;
+        championIds = Arrays.copyOf(championIds, capacity);
+        queueIds = Arrays.copyOf(queueIds, capacity);
+        championNames = Arrays.copyOf(championNames, capacity);
+        games = Arrays.copyOf(games, capacity);
+        wins = Arrays.copyOf(wins, capacity);
+        kills = Arrays.copyOf(kills, capacity);
+        deaths = Arrays.copyOf(deaths, capacity);
+        assists = Arrays.copyOf(assists, capacity);
+        challengeGames = Arrays.copyOf(challengeGames, capacity);
+        killParticipation = Arrays.copyOf(killParticipation, capacity);
+        goldPerMinute = Arrays.copyOf(goldPerMinute, capacity);
+        laningAdvantage = Arrays.copyOf(laningAdvantage, capacity);
+    }
+}
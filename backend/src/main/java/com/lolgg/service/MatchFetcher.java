@@ -0,0 +1,91 @@
+package com.lolgg.service;
+
+import com.lolgg.dto.riot.MatchDto;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Fetches match details concurrently while keeping the original match ID order.
+ * Failed or timed-out matches are dropped so the rest of the page can still be served.
+ */
+@Component
+public class MatchFetcher {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchFetcher.class);
+
+    private final RiotMatchService matchService;
+    private final ExecutorService riotExecutor;
+    private final ObservationRegistry observationRegistry;
+    private final int concurrency;
+    private final long deadlineMs;
+
+    public MatchFetcher(RiotMatchService matchService,
+                        @Qualifier("riotExecutor") ExecutorService riotExecutor,
+                        ObservationRegistry observationRegistry,
+                        @Value("${riot.match-fetch.concurrency:8}") int concurrency,
+                        @Value("${riot.match-fetch.deadline-ms:5000}") long deadlineMs) {
+        this.matchService = matchService;
+        this.riotExecutor = riotExecutor;
+        this.observationRegistry = observationRegistry;
+        this.concurrency = concurrency;
+        this.deadlineMs = deadlineMs;
+    }
+
+    public List<MatchDto> fetchAll(List<String> matchIds) {
+        Semaphore permits = new Semaphore(concurrency);
+        Observation parent = observationRegistry.getCurrentObservation();
+        List<Future<MatchDto>> futures = new ArrayList<>(matchIds.size());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+        for (String matchId : matchIds) {
+            futures.add(riotExecutor.submit(() -> {
+                permits.acquire();
+                try {
+                    // The page has already been returned without this match
+                    if (System.nanoTime() - deadline > 0) return null;
+                    // One span per match, so a slow page can be broken down by fetch
+                    return Observation.createNotStarted("lolgg.match.fetch", observationRegistry)
+                            .parentObservation(parent)
+                            .highCardinalityKeyValue("match.id", matchId)
+                            .observe(() -> matchService.getMatch(matchId));
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+
+        List<MatchDto> matches = new ArrayList<>(matchIds.size());
+        for (int i = 0; i < futures.size(); i++) {
+            Future<MatchDto> future = futures.get(i);
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                MatchDto match = future.get(remaining, TimeUnit.NANOSECONDS);
+                if (match != null) matches.add(match);
+            } catch (TimeoutException e) {
+                // Not interrupted: a fetch may be inside the match store, and a late result still warms it
+                future.cancel(false);
+                log.warn("Match fetch exceeded page deadline: {}", matchIds.get(i));
+            } catch (ExecutionException e) {
+                log.warn("Failed to fetch match: {} - {}", matchIds.get(i), e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(false));
+                break;
+            }
+        }
+        return matches;
+    }
+}
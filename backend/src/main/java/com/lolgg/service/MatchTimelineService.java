@@ -0,0 +1,138 @@
+package com.lolgg.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lolgg.dto.riot.MatchDto;
+import com.lolgg.store.MatchStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-puuid match ID timeline kept in memory, one per queue/type filter.
+ * <p>
+ * The first visit lists IDs from Riot as before. After that, only the head of the timeline
+ * is synced, asking Riot for matches started since the newest known one ({@code startTime}),
+ * and later pages are served from the index. Older IDs are fetched only when a page
+ * reaches past the end of what is indexed.
+ */
+@Service
+public class MatchTimelineService {
+
+    private static final int MAX_PAGE = 100;
+    private static final int MAX_HEAD_PAGES = 5;
+
+    private final RiotMatchService matchService;
+    private final MatchStore matchStore;
+    private final long headSyncIntervalMs;
+    private final Cache<String, Timeline> timelines;
+
+    public MatchTimelineService(RiotMatchService matchService,
+                                MatchStore matchStore,
+                                @Value("${riot.match-timeline.max-size:20000}") long maxSize,
+                                @Value("${riot.match-timeline.ttl-minutes:60}") long ttlMinutes,
+                                @Value("${riot.match-timeline.head-sync-interval-ms:30000}") long headSyncIntervalMs) {
+        this.matchService = matchService;
+        this.matchStore = matchStore;
+        this.headSyncIntervalMs = headSyncIntervalMs;
+        this.timelines = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    private static final class Timeline {
+        final ReentrantLock lock = new ReentrantLock();
+        final List<String> ids = new ArrayList<>();
+        final Set<String> known = new HashSet<>();
+        boolean complete;
+        long lastHeadSync;
+    }
+
+    public List<String> getMatchIds(String puuid, int start, int count, Integer queue, String type) {
+        Timeline timeline = timelines.get(puuid + "|" + queue + "|" + type, k -> new Timeline());
+
+        timeline.lock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            if (timeline.ids.isEmpty() && !timeline.complete) {
+                appendOlder(timeline, puuid, start + count, queue, type);
+                timeline.lastHeadSync = now;
+            } else if (start == 0 && now - timeline.lastHeadSync >= headSyncIntervalMs) {
+                syncHead(timeline, puuid, queue, type);
+                timeline.lastHeadSync = now;
+            }
+
+            while (timeline.ids.size() < start + count && !timeline.complete) {
+                if (appendOlder(timeline, puuid, start + count - timeline.ids.size(), queue, type) == 0) break;
+            }
+
+            int from = Math.min(start, timeline.ids.size());
+            int to = Math.min(start + count, timeline.ids.size());
+            return List.copyOf(timeline.ids.subList(from, to));
+        } finally {
+            timeline.lock.unlock();
+        }
+    }
+
+    /**
+     * Prepends matches newer than the newest indexed one, paging back until the listing
+     * overlaps the index. Without a start time for it (not in the match store, or no matches
+     * indexed yet), lists from the first page and merges on overlap. If the new matches can't
+     * be joined to the index without a gap, the stale index is dropped and rebuilt from them.
+     */
+    private void syncHead(Timeline timeline, String puuid, Integer queue, String type) {
+        Long startTime = timeline.ids.isEmpty() ? null : matchStore.peek(timeline.ids.get(0))
+                .map(MatchDto::info)
+                .map(info -> info.gameCreation() / 1000)
+                .orElse(null);
+
+        List<String> newer = new ArrayList<>();
+        boolean overlapped = false;
+        boolean exhausted = false;
+        for (int page = 0; page < MAX_HEAD_PAGES && !overlapped && !exhausted; page++) {
+            List<String> head = matchService.getMatchIds(puuid, page * MAX_PAGE, MAX_PAGE, queue, type, startTime);
+            for (String id : head) {
+                if (timeline.known.contains(id)) {
+                    overlapped = true;
+                    break;
+                }
+                newer.add(id);
+            }
+            exhausted = head.size() < MAX_PAGE;
+        }
+
+        // With a start time, a short listing holds every newer match; otherwise only an overlap joins it to the index
+        boolean gap = !overlapped && (startTime == null || !exhausted);
+        if (gap && !newer.isEmpty()) {
+            timeline.ids.clear();
+            timeline.known.clear();
+            timeline.complete = false;
+        }
+        timeline.ids.addAll(0, newer);
+        timeline.known.addAll(newer);
+    }
+
+    /**
+     * @return number of IDs added to the timeline
+     */
+    private int appendOlder(Timeline timeline, String puuid, int needed, Integer queue, String type) {
+        int count = Math.min(MAX_PAGE, Math.max(needed, 20));
+        List<String> older = matchService.getMatchIds(puuid, timeline.ids.size(), count, queue, type);
+        int added = 0;
+        for (String id : older) {
+            if (timeline.known.add(id)) {
+                timeline.ids.add(id);
+                added++;
+            }
+        }
+        if (older.size() < count) timeline.complete = true;
+        return added;
+    }
+}
@@ -1,5 +1,10 @@
 package com.lolgg.service;
 
+import com.lolgg.cache.AccountCache;
+import com.lolgg.client.RiotBulkhead;
+import com.lolgg.client.RiotCallExecutor;
+import com.lolgg.client.RiotEndpoint;
+import com.lolgg.client.RiotRoute;
 import com.lolgg.dto.riot.AccountDto;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -9,15 +14,27 @@ import org.springframework.web.client.RestClient;
 public class RiotAccountService {
 
     private final RestClient asiaRestClient;
+    private final AccountCache accountCache;
+    private final RiotCallExecutor riotCalls;
 
-    public RiotAccountService(@Qualifier("asiaRestClient") RestClient asiaRestClient) {
+    public RiotAccountService(@Qualifier("asiaRestClient") RestClient asiaRestClient, AccountCache accountCache,
+                              RiotCallExecutor riotCalls) {
         this.asiaRestClient = asiaRestClient;
+        this.accountCache = accountCache;
+        this.riotCalls = riotCalls;
     }
 
     public AccountDto getAccountByRiotId(String gameName, String tagLine) {
-        return asiaRestClient.get()
-                .uri("/riot/account/v1/accounts/by-riot-id/{gameName}/{tagLine}", gameName, tagLine)
-                .retrieve()
-                .body(AccountDto.class);
+        return accountCache.get(gameName, tagLine).orElseGet(() -> {
+            AccountDto account = riotCalls.call(RiotRoute.ASIA, RiotEndpoint.ACCOUNT_BY_RIOT_ID, RiotBulkhead.PROFILE,
+                    () -> asiaRestClient.get()
+                            .uri("/riot/account/v1/accounts/by-riot-id/{gameName}/{tagLine}", gameName, tagLine)
+                            .retrieve()
+                            .body(AccountDto.class));
+            if (account != null) {
+                accountCache.put(gameName, tagLine, account);
+            }
+            return account;
+        });
     }
 }
@@ -1,5 +1,9 @@
 package com.lolgg.service;
 
+import com.lolgg.client.RiotBulkhead;
+import com.lolgg.client.RiotCallExecutor;
+import com.lolgg.client.RiotEndpoint;
+import com.lolgg.client.RiotRoute;
 import com.lolgg.dto.riot.LeagueEntryDto;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
@@ -12,15 +16,25 @@ import java.util.List;
 public class RiotLeagueService {
 
     private final RestClient krRestClient;
+    private final RiotCallExecutor riotCalls;
 
-    public RiotLeagueService(@Qualifier("krRestClient") RestClient krRestClient) {
+    public RiotLeagueService(@Qualifier("krRestClient") RestClient krRestClient, RiotCallExecutor riotCalls) {
         this.krRestClient = krRestClient;
+        this.riotCalls = riotCalls;
     }
 
     public List<LeagueEntryDto> getLeagueEntries(String puuid) {
-        return krRestClient.get()
-                .uri("/lol/league/v4/entries/by-puuid/{puuid}", puuid)
-                .retrieve()
-                .body(new ParameterizedTypeReference<>() {});
+        return getLeagueEntries(puuid, RiotBulkhead.PROFILE);
+    }
+
+    /**
+     * @param bulkhead {@link RiotBulkhead#TIERS} for participant tier lookups, so they can't starve profile searches
+     */
+    public List<LeagueEntryDto> getLeagueEntries(String puuid, RiotBulkhead bulkhead) {
+        return riotCalls.call(RiotRoute.KR, RiotEndpoint.LEAGUE_ENTRIES_BY_PUUID, bulkhead,
+                () -> krRestClient.get()
+                        .uri("/lol/league/v4/entries/by-puuid/{puuid}", puuid)
+                        .retrieve()
+                        .body(new ParameterizedTypeReference<>() {}));
     }
 }
@@ -1,48 +1,100 @@
 package com.lolgg.service;
 
+import com.lolgg.cache.RemoteCacheStore;
+import com.lolgg.cache.SharedCacheTier;
+import com.lolgg.client.RiotBulkhead;
+import com.lolgg.client.RiotCallExecutor;
+import com.lolgg.client.RiotEndpoint;
+import com.lolgg.client.RiotRoute;
 import com.lolgg.dto.riot.MatchDto;
+import com.lolgg.store.MatchCodec;
+import com.lolgg.store.MatchStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 public class RiotMatchService {
 
     private final RestClient asiaRestClient;
+    private final MatchStore matchStore;
+    private final RiotCallExecutor riotCalls;
+    private final SharedCacheTier<MatchDto> sharedMatches;
+    private final Duration sharedMatchTtl;
 
-    public RiotMatchService(@Qualifier("asiaRestClient") RestClient asiaRestClient) {
+    public RiotMatchService(@Qualifier("asiaRestClient") RestClient asiaRestClient, MatchStore matchStore,
+                            RiotCallExecutor riotCalls, ObjectProvider<RemoteCacheStore> remoteStore,
+                            MeterRegistry meterRegistry,
+                            @Value("${riot.remote-cache.match-ttl:7d}") Duration sharedMatchTtl) {
         this.asiaRestClient = asiaRestClient;
+        this.matchStore = matchStore;
+        this.riotCalls = riotCalls;
+        this.sharedMatches = new SharedCacheTier<>(remoteStore.getIfAvailable(), "matches",
+                new SharedCacheTier.Codec<>() {
+                    @Override
+                    public byte[] encode(MatchDto match) {
+                        return MatchCodec.encode(match);
+                    }
+
+                    @Override
+                    public MatchDto decode(byte[] bytes) {
+                        return MatchCodec.decode(bytes);
+                    }
+                }, meterRegistry);
+        this.sharedMatchTtl = sharedMatchTtl;
     }
 
     public List<String> getMatchIds(String puuid, int start, int count, Integer queue, String type) {
-        if (queue != null) {
-            return asiaRestClient.get()
-                    .uri("/lol/match/v5/matches/by-puuid/{puuid}/ids?start={start}&count={count}&queue={queue}",
-                            puuid, start, count, queue)
-                    .retrieve()
-                    .body(new ParameterizedTypeReference<>() {});
-        }
-        if (type != null) {
-            return asiaRestClient.get()
-                    .uri("/lol/match/v5/matches/by-puuid/{puuid}/ids?start={start}&count={count}&type={type}",
-                            puuid, start, count, type)
-                    .retrieve()
-                    .body(new ParameterizedTypeReference<>() {});
-        }
-        return asiaRestClient.get()
-                .uri("/lol/match/v5/matches/by-puuid/{puuid}/ids?start={start}&count={count}",
-                        puuid, start, count)
-                .retrieve()
-                .body(new ParameterizedTypeReference<>() {});
+        return getMatchIds(puuid, start, count, queue, type, null);
+    }
+
+    /**
+     * @param startTime epoch seconds; only matches started at or after it are listed
+     */
+    public List<String> getMatchIds(String puuid, int start, int count, Integer queue, String type, Long startTime) {
+        return riotCalls.call(RiotRoute.ASIA, RiotEndpoint.MATCH_IDS_BY_PUUID, RiotBulkhead.MATCHES,
+                () -> asiaRestClient.get()
+                        .uri(uriBuilder -> uriBuilder.path("/lol/match/v5/matches/by-puuid/{puuid}/ids")
+                                .queryParam("start", start)
+                                .queryParam("count", count)
+                                .queryParamIfPresent("queue", Optional.ofNullable(queue))
+                                .queryParamIfPresent("type", Optional.ofNullable(type))
+                                .queryParamIfPresent("startTime", Optional.ofNullable(startTime))
+                                .build(puuid))
+                        .retrieve()
+                        .body(new ParameterizedTypeReference<>() {}));
     }
 
+    /**
+     * Finished matches never change, so they are served from the local store after the first fetch,
+     * and from the shared cache tier when another node fetched them first.
+     * Fetches are hedged: match-v5 has a long latency tail, and the call is an idempotent read.
+     */
     public MatchDto getMatch(String matchId) {
-        return asiaRestClient.get()
-                .uri("/lol/match/v5/matches/{matchId}", matchId)
-                .retrieve()
-                .body(MatchDto.class);
+        return matchStore.get(matchId).orElseGet(() -> {
+            MatchDto shared = sharedMatches.get(matchId);
+            if (shared != null) {
+                matchStore.put(shared);
+                return shared;
+            }
+            MatchDto match = riotCalls.hedged(RiotRoute.ASIA, RiotEndpoint.MATCH_BY_ID, RiotBulkhead.MATCHES,
+                    () -> asiaRestClient.get()
+                            .uri("/lol/match/v5/matches/{matchId}", matchId)
+                            .retrieve()
+                            .body(MatchDto.class));
+            if (match != null && match.info().gameEndTimestamp() > 0) {
+                matchStore.put(match);
+                sharedMatches.put(matchId, match, sharedMatchTtl);
+            }
+            return match;
+        });
     }
 }
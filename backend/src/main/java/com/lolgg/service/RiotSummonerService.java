@@ -1,5 +1,9 @@
 package com.lolgg.service;
 
+import com.lolgg.client.RiotBulkhead;
+import com.lolgg.client.RiotCallExecutor;
+import com.lolgg.client.RiotEndpoint;
+import com.lolgg.client.RiotRoute;
 import com.lolgg.dto.riot.SummonerDto;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -9,15 +13,18 @@ import org.springframework.web.client.RestClient;
 public class RiotSummonerService {
 
     private final RestClient krRestClient;
+    private final RiotCallExecutor riotCalls;
 
-    public RiotSummonerService(@Qualifier("krRestClient") RestClient krRestClient) {
+    public RiotSummonerService(@Qualifier("krRestClient") RestClient krRestClient, RiotCallExecutor riotCalls) {
         this.krRestClient = krRestClient;
+        this.riotCalls = riotCalls;
     }
 
     public SummonerDto getSummonerByPuuid(String puuid) {
-        return krRestClient.get()
-                .uri("/lol/summoner/v4/summoners/by-puuid/{puuid}", puuid)
-                .retrieve()
-                .body(SummonerDto.class);
+        return riotCalls.call(RiotRoute.KR, RiotEndpoint.SUMMONER_BY_PUUID, RiotBulkhead.PROFILE,
+                () -> krRestClient.get()
+                        .uri("/lol/summoner/v4/summoners/by-puuid/{puuid}", puuid)
+                        .retrieve()
+                        .body(SummonerDto.class));
     }
 }
@@ -1,5 +1,7 @@
 package com.lolgg.service;
 
+import com.lolgg.cache.AccountCache;
+import com.lolgg.cache.TierCache;
 import com.lolgg.dto.response.MatchResponse;
 import com.lolgg.dto.response.SummonerResponse;
 import com.lolgg.dto.riot.AccountDto;
@@ -7,13 +9,21 @@ import com.lolgg.dto.riot.LeagueEntryDto;
 import com.lolgg.dto.riot.MatchDto;
 import com.lolgg.dto.riot.MatchParticipantDto;
 import com.lolgg.dto.riot.SummonerDto;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -24,25 +34,41 @@ public class SummonerAggregationService {
     private final RiotAccountService accountService;
     private final RiotSummonerService summonerService;
     private final RiotLeagueService leagueService;
-    private final RiotMatchService matchService;
+    private final MatchTimelineService matchTimeline;
+    private final MatchFetcher matchFetcher;
+    private final ExecutorService riotExecutor;
 
-    private final Map<String, String> tierCache = new ConcurrentHashMap<>();
+    private final TierCache tierCache;
+    private final TierPrefetcher tierPrefetcher;
+    private final SummonerStatsService statsService;
+    private final AccountCache accountCache;
+    private final ObservationRegistry observationRegistry;
 
-    private static final Map<String, Integer> TIER_VALUES = Map.ofEntries(
-            Map.entry("IRON", 1), Map.entry("BRONZE", 2), Map.entry("SILVER", 3),
-            Map.entry("GOLD", 4), Map.entry("PLATINUM", 5), Map.entry("EMERALD", 6),
-            Map.entry("DIAMOND", 7), Map.entry("MASTER", 8),
-            Map.entry("GRANDMASTER", 9), Map.entry("CHALLENGER", 10)
-    );
-
-    private static final Map<String, Integer> RANK_VALUES = Map.of(
-            "IV", 0, "III", 1, "II", 2, "I", 3
-    );
+    @Value("${riot.profile.call-timeout-ms:5000}")
+    private long profileCallTimeoutMs;
 
+    /**
+     * Summoner and league lookups only need the puuid, so they run concurrently once the account resolves.
+     */
     public SummonerResponse getSummonerInfo(String gameName, String tagLine) {
-        AccountDto account = accountService.getAccountByRiotId(gameName, tagLine);
-        SummonerDto summoner = summonerService.getSummonerByPuuid(account.puuid());
-        List<LeagueEntryDto> leagues = leagueService.getLeagueEntries(account.puuid());
+        return observe("profile", () -> assembleProfile(gameName, tagLine));
+    }
+
+    private SummonerResponse assembleProfile(String gameName, String tagLine) {
+        Duration timeout = Duration.ofMillis(profileCallTimeoutMs);
+        Observation parent = observationRegistry.getCurrentObservation();
+        Executor executor = task -> riotExecutor.execute(parent != null ? () -> parent.scoped(task) : task);
+        TaskGraph graph = new TaskGraph(executor);
+        TaskGraph.Node<AccountDto> accountNode = graph.add("account", timeout,
+                () -> accountService.getAccountByRiotId(gameName, tagLine));
+        TaskGraph.Node<SummonerDto> summonerNode = graph.add("summoner", timeout, accountNode,
+                a -> summonerService.getSummonerByPuuid(a.puuid()));
+        TaskGraph.Node<List<LeagueEntryDto>> leaguesNode = graph.add("leagues", timeout, accountNode,
+                a -> leagueService.getLeagueEntries(a.puuid()));
+
+        AccountDto account = graph.join(accountNode);
+        SummonerDto summoner = graph.join(summonerNode);
+        List<LeagueEntryDto> leagues = graph.join(leaguesNode);
 
         return new SummonerResponse(
                 account.puuid(),
@@ -55,112 +81,126 @@ public class SummonerAggregationService {
     }
 
     public List<MatchResponse> getMatches(String puuid, int start, int count, Integer queue, String type) {
-        List<String> matchIds = matchService.getMatchIds(puuid, start, count, queue, type);
+        List<String> matchIds = observe("match-ids",
+                () -> matchTimeline.getMatchIds(puuid, start, count, queue, type));
 
-        List<MatchDto> matches = matchIds.stream()
-                .map(matchService::getMatch)
-                .toList();
+        List<MatchDto> matches = observe("match-fetch", () -> matchFetcher.fetchAll(matchIds));
+        matches.forEach(this::checkRiotIds);
+        matches.forEach(statsService::ingest);
+        prefetchTiers(matches);
 
-        return matches.stream()
+        return observe("to-match-response", () -> matches.stream()
                 .map(match -> toMatchResponse(match, puuid))
-                .toList();
+                .toList());
     }
 
     /**
-     * Lazily fetch tiers for a list of puuids (called when match card is expanded).
-     * Uses conservative rate limiting to avoid 429 errors.
+     * Queues every participant so their tiers are warming while the page is rendered;
+     * participants of the newest matches are loaded first.
      */
-    public Map<String, String> getTiers(List<String> puuids) {
-        Map<String, String> result = new HashMap<>();
+    private void prefetchTiers(List<MatchDto> matches) {
+        for (int i = 0; i < matches.size(); i++) {
+            for (MatchParticipantDto p : matches.get(i).info().participants()) {
+                tierPrefetcher.enqueue(p.puuid(), i);
+            }
+        }
+    }
 
-        for (int i = 0; i < puuids.size(); i++) {
-            String puuid = puuids.get(i);
+    /**
+     * Lazily fetch tiers for a list of puuids (called when match card is expanded).
+     * Lookups run concurrently; rate limiting is handled by the shared RiotRateLimiter on the RestClient.
+     */
+    public CompletableFuture<Map<String, String>> getTiers(List<String> puuids) {
+        Observation observation = stage("tiers").start();
+        Map<String, CompletableFuture<Integer>> lookups = new LinkedHashMap<>();
+        for (String puuid : puuids) {
+            lookups.computeIfAbsent(puuid, id -> resolveTier(id));
+        }
 
-            // Return cached value if available
-            if (tierCache.containsKey(puuid)) {
-                result.put(puuid, formatTier(tierCache.get(puuid)));
-                continue;
-            }
+        return CompletableFuture.allOf(lookups.values().toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    Map<String, String> result = new HashMap<>();
+                    lookups.forEach((puuid, tier) -> result.put(puuid, formatTier(tier.join())));
+                    return result;
+                })
+                .whenComplete((result, e) -> {
+                    if (e != null) observation.error(e);
+                    observation.stop();
+                });
+    }
 
-            // Rate limit: sleep 50ms between API calls (~10 req/s within 20/s limit)
-            try { Thread.sleep(50); } catch (InterruptedException ignored) {}
-
-            int retries = 0;
-            while (retries < 3) {
-                try {
-                    List<LeagueEntryDto> entries = leagueService.getLeagueEntries(puuid);
-                    String soloTier = entries.stream()
-                            .filter(e -> "RANKED_SOLO_5x5".equals(e.queueType()))
-                            .findFirst()
-                            .map(e -> e.tier() + " " + e.rank())
-                            .orElse(null);
-                    tierCache.put(puuid, soloTier != null ? soloTier : "UNRANKED");
-                    result.put(puuid, formatTier(tierCache.get(puuid)));
-                    break;
-                } catch (Exception e) {
-                    retries++;
-                    if (retries < 3) {
-                        log.warn("Retry {}/3 for puuid: {} - {}", retries, puuid.substring(0, 8), e.getMessage());
-                        try { Thread.sleep(2000L * retries); } catch (InterruptedException ignored) {}
-                    } else {
-                        log.warn("Failed to fetch tier for puuid after 3 retries: {}", puuid.substring(0, 8));
-                        result.put(puuid, null);
-                    }
-                }
+    /**
+     * Reports each puuid's tier to {@code onTier} as soon as it is known, cached ones first.
+     * The returned future completes once every lookup has been reported.
+     */
+    public CompletableFuture<Void> streamTiers(List<String> puuids, BiConsumer<String, String> onTier) {
+        Map<String, CompletableFuture<Integer>> pending = new LinkedHashMap<>();
+        for (String puuid : new LinkedHashSet<>(puuids)) {
+            int cached = tierCache.getIfPresent(puuid);
+            if (cached != TierCode.UNKNOWN) {
+                onTier.accept(puuid, formatTier(cached));
+            } else {
+                pending.put(puuid, resolveTier(puuid));
             }
         }
 
-        return result;
+        return CompletableFuture.allOf(pending.entrySet().stream()
+                .map(e -> e.getValue().thenAccept(tier -> onTier.accept(e.getKey(), formatTier(tier))))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Retries happen in {@code RiotCallExecutor}; a tier that still fails is reported as unknown.
+     *
+     * @return the tier code, or {@link TierCode#UNKNOWN} if the lookup failed
+     */
+    private CompletableFuture<Integer> resolveTier(String puuid) {
+        return tierCache.get(puuid).exceptionally(e -> {
+            log.warn("Failed to fetch tier for puuid: {} - {}", puuid.substring(0, 8), e.getMessage());
+            return TierCode.UNKNOWN;
+        });
     }
 
     /**
      * Calculate average tier from the cached tiers (called after getTiers populates the cache).
+     * Works on packed tier codes only, so it allocates nothing per participant.
      */
     public String calculateAverageTier(List<String> puuids) {
-        int totalValue = 0;
-        int count = 0;
-
-        for (String puuid : puuids) {
-            String cached = tierCache.get(puuid);
-            if (cached == null || "UNRANKED".equals(cached)) continue;
-
-            String[] parts = cached.split(" ");
-            if (parts.length != 2) continue;
-
-            Integer tierVal = TIER_VALUES.get(parts[0]);
-            Integer rankVal = RANK_VALUES.get(parts[1]);
-            if (tierVal == null || rankVal == null) continue;
-
-            totalValue += tierVal * 4 + rankVal;
-            count++;
+        int divisionSum = 0;
+        int ranked = 0;
+        for (int i = 0, n = puuids.size(); i < n; i++) {
+            int division = TierCode.division(tierCache.getIfPresent(puuids.get(i)));
+            divisionSum += division;
+            ranked += TierCode.rankedCount(division);
         }
+        return TierCode.average(divisionSum, ranked);
+    }
 
-        if (count == 0) return null;
-
-        int avg = Math.round((float) totalValue / count);
-        final int finalTierIdx = Math.max(1, Math.min(avg / 4, 10));
-        int rankIdx = avg % 4;
+    private <T> T observe(String name, Supplier<T> work) {
+        return stage(name).observe(work);
+    }
 
-        String tier = TIER_VALUES.entrySet().stream()
-                .filter(e -> e.getValue() == finalTierIdx)
-                .map(Map.Entry::getKey)
-                .findFirst()
-                .orElse("GOLD");
+    /**
+     * Timed as {@code lolgg.aggregation{stage=...}} and traced as a span.
+     */
+    private Observation stage(String name) {
+        return Observation.createNotStarted("lolgg.aggregation", observationRegistry)
+                .contextualName("aggregation " + name)
+                .lowCardinalityKeyValue("stage", name);
+    }
 
-        if (finalTierIdx >= 8) {
-            return tier.charAt(0) + tier.substring(1).toLowerCase();
+    /**
+     * Matches carry each participant's Riot ID at game time; a newer one than the cached account means a rename.
+     */
+    private void checkRiotIds(MatchDto match) {
+        for (MatchParticipantDto p : match.info().participants()) {
+            accountCache.checkRiotId(p.puuid(), p.riotIdGameName(), p.riotIdTagline(), match.info().gameEndTimestamp());
         }
-
-        String[] rankNames = {"IV", "III", "II", "I"};
-        String rank = rankIdx >= 0 && rankIdx < 4 ? rankNames[rankIdx] : "IV";
-
-        Map<String, String> rankToNum = Map.of("I", "1", "II", "2", "III", "3", "IV", "4");
-        return tier.charAt(0) + tier.substring(1).toLowerCase() + " " + rankToNum.getOrDefault(rank, "4");
     }
 
-    private MatchResponse toMatchResponse(MatchDto match, String puuid) {
+    MatchResponse toMatchResponse(MatchDto match, String puuid) {
         List<MatchResponse.ParticipantInfo> participants = match.info().participants().stream()
-                .map(mp -> toParticipantInfo(mp, null))
+                .map(mp -> toParticipantInfo(mp, TierCode.UNKNOWN))
                 .toList();
 
         MatchResponse.ParticipantInfo currentPlayer = participants.stream()
@@ -180,7 +220,7 @@ public class SummonerAggregationService {
         );
     }
 
-    private MatchResponse.ParticipantInfo toParticipantInfo(MatchParticipantDto p, String rawTier) {
+    MatchResponse.ParticipantInfo toParticipantInfo(MatchParticipantDto p, int tierCode) {
         var challenges = p.challenges();
         return new MatchResponse.ParticipantInfo(
                 p.puuid(),
@@ -212,21 +252,11 @@ public class SummonerAggregationService {
                 challenges != null ? challenges.laningPhaseGoldExpAdvantage() : 0,
                 challenges != null ? challenges.laneMinionsFirst10Minutes() : 0,
                 challenges != null ? challenges.goldPerMinute() : 0,
-                formatTier(rawTier)
+                formatTier(tierCode)
         );
     }
 
-    private String formatTier(String rawTier) {
-        if (rawTier == null || "UNRANKED".equals(rawTier)) return null;
-        String[] parts = rawTier.split(" ");
-        if (parts.length != 2) return rawTier;
-        String tier = parts[0].charAt(0) + parts[0].substring(1).toLowerCase();
-        // Master+ tiers don't have rank subdivisions
-        Integer tierVal = TIER_VALUES.get(parts[0]);
-        if (tierVal != null && tierVal >= 8) {
-            return tier;
-        }
-        Map<String, String> rankToNum = Map.of("I", "1", "II", "2", "III", "3", "IV", "4");
-        return tier + " " + rankToNum.getOrDefault(parts[1], parts[1]);
+    static String formatTier(int tierCode) {
+        return TierCode.display(tierCode);
     }
 }
@@ -0,0 +1,100 @@
+package com.lolgg.service;
+
+import com.lolgg.cache.AccountCache;
+import com.lolgg.cache.ProfileCache;
+import com.lolgg.dto.request.SummonerBatchRequest;
+import com.lolgg.dto.response.MatchResponse;
+import com.lolgg.dto.response.SummonerBatchEntry;
+import com.lolgg.dto.response.SummonerResponse;
+import com.lolgg.exception.ApiError;
+import com.lolgg.exception.InvalidRequestException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Multi-search: resolves up to {@code max-size} Riot IDs at once. Duplicates (by normalized
+ * Riot ID) are looked up once, every lookup runs concurrently under the shared Riot budget,
+ * and one failed player doesn't fail the batch.
+ */
+@Service
+public class SummonerBatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(SummonerBatchService.class);
+
+    private final ProfileCache profileCache;
+    private final SummonerAggregationService aggregationService;
+    private final ExecutorService riotExecutor;
+    private final int maxSize;
+    private final int matchCount;
+
+    public SummonerBatchService(ProfileCache profileCache,
+                                SummonerAggregationService aggregationService,
+                                @Qualifier("riotExecutor") ExecutorService riotExecutor,
+                                @Value("${riot.summoner-batch.max-size:10}") int maxSize,
+                                @Value("${riot.summoner-batch.match-count:10}") int matchCount) {
+        this.profileCache = profileCache;
+        this.aggregationService = aggregationService;
+        this.riotExecutor = riotExecutor;
+        this.maxSize = maxSize;
+        this.matchCount = matchCount;
+    }
+
+    /**
+     * @return one entry per distinct Riot ID, in the order first submitted
+     */
+    public CompletableFuture<List<SummonerBatchEntry>> lookup(SummonerBatchRequest request) {
+        if (request.riotIds() == null || request.riotIds().isEmpty()) {
+            throw new InvalidRequestException("riotIds must not be empty");
+        }
+
+        Map<String, SummonerBatchRequest.RiotId> distinct = new LinkedHashMap<>();
+        for (SummonerBatchRequest.RiotId riotId : request.riotIds()) {
+            if (riotId == null || riotId.gameName() == null || riotId.tagLine() == null) {
+                throw new InvalidRequestException("Every Riot ID needs a gameName and tagLine");
+            }
+            distinct.putIfAbsent(AccountCache.key(riotId.gameName(), riotId.tagLine()), riotId);
+        }
+        if (distinct.size() > maxSize) {
+            throw new InvalidRequestException("At most " + maxSize + " Riot IDs per batch");
+        }
+
+        List<CompletableFuture<SummonerBatchEntry>> lookups = distinct.values().stream()
+                .map(riotId -> CompletableFuture.supplyAsync(() -> lookup(riotId, request.includeMatches()), riotExecutor))
+                .toList();
+        return CompletableFuture.allOf(lookups.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> lookups.stream().map(CompletableFuture::join).toList());
+    }
+
+    private SummonerBatchEntry lookup(SummonerBatchRequest.RiotId riotId, boolean includeMatches) {
+        SummonerResponse summoner;
+        try {
+            summoner = profileCache.get(riotId.gameName(), riotId.tagLine()).profile();
+        } catch (RuntimeException e) {
+            ApiError error = ApiError.of(e);
+            log.warn("Batch lookup failed for {}#{}: {}", riotId.gameName(), riotId.tagLine(), e.getMessage());
+            return new SummonerBatchEntry(riotId.gameName(), riotId.tagLine(), error.status().value(), error.message(),
+                    null, null);
+        }
+
+        if (!includeMatches) {
+            return new SummonerBatchEntry(riotId.gameName(), riotId.tagLine(), 200, null, summoner, null);
+        }
+        try {
+            List<MatchResponse> matches = aggregationService.getMatches(summoner.puuid(), 0, matchCount, null, null);
+            return new SummonerBatchEntry(riotId.gameName(), riotId.tagLine(), 200, null, summoner, matches);
+        } catch (RuntimeException e) {
+            log.warn("Batch match page failed for {}#{}: {}", riotId.gameName(), riotId.tagLine(), e.getMessage());
+            return new SummonerBatchEntry(riotId.gameName(), riotId.tagLine(), 200,
+                    "Matches unavailable: " + ApiError.of(e).message(), summoner, null);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.lolgg.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lolgg.dto.response.SummonerStatsResponse;
+import com.lolgg.dto.riot.MatchDto;
+import com.lolgg.dto.riot.MatchParticipantDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Per-player champion stats, updated as matches pass through {@code getMatches} instead of
+ * being recomputed from match history on every request. Every participant of an ingested
+ * match is counted, and a match is counted once per player however often it is served.
+ * Remakes and unfinished games are skipped.
+ */
+@Service
+public class SummonerStatsService {
+
+    private static final long REMAKE_SECONDS = 300;
+
+    private final Cache<String, ChampionAggregates> players;
+
+    public SummonerStatsService(MeterRegistry meterRegistry,
+                                @Value("${riot.stats.max-size:50000}") long maxSize,
+                                @Value("${riot.stats.idle-hours:24}") long idleHours) {
+        this.players = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofHours(idleHours))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, players, "summoner-stats");
+    }
+
+    public void ingest(MatchDto match) {
+        MatchDto.InfoDto info = match.info();
+        if (info.gameEndTimestamp() <= 0 || info.gameDuration() < REMAKE_SECONDS) return;
+
+        for (MatchParticipantDto p : info.participants()) {
+            players.get(p.puuid(), puuid -> new ChampionAggregates())
+                    .add(match.metadata().matchId(), info.gameCreation(), info.queueId(), p);
+        }
+    }
+
+    /**
+     * @param queueId only this queue, or null for every queue
+     */
+    public SummonerStatsResponse getStats(String puuid, Integer queueId) {
+        ChampionAggregates aggregates = players.getIfPresent(puuid);
+        if (aggregates == null) {
+            return new SummonerStatsResponse(puuid, 0, 0, List.of());
+        }
+
+        List<SummonerStatsResponse.ChampionStats> champions = aggregates.snapshot(queueId);
+        champions.sort(Comparator.comparingInt(SummonerStatsResponse.ChampionStats::games).reversed());
+        int games = 0;
+        int wins = 0;
+        for (SummonerStatsResponse.ChampionStats c : champions) {
+            games += c.games();
+            wins += c.wins();
+        }
+        return new SummonerStatsResponse(puuid, games, wins, champions);
+    }
+}
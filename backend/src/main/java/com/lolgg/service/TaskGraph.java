@@ -0,0 +1,101 @@
+package com.lolgg.service;
+
+import com.lolgg.exception.TaskTimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Small dependency-graph executor for assembling a response from several Riot calls.
+ * Each node starts as soon as its dependencies have completed, so independent calls run
+ * concurrently. A node's timeout covers only its own call, not the time spent waiting on
+ * its dependencies; a failed node fails every node that depends on it.
+ */
+public final class TaskGraph {
+
+    private final Executor executor;
+
+    public TaskGraph(Executor executor) {
+        this.executor = executor;
+    }
+
+    public static final class Node<T> {
+        private final String name;
+        private final CompletableFuture<T> future;
+
+        private Node(String name, CompletableFuture<T> future) {
+            this.name = name;
+            this.future = future;
+        }
+
+        public String name() {
+            return name;
+        }
+    }
+
+    /**
+     * Resolved dependency values, handed to a node's task.
+     */
+    public static final class Results {
+        private Results() {}
+
+        public <T> T get(Node<T> node) {
+            return node.future.join();
+        }
+    }
+
+    private static final Results RESULTS = new Results();
+
+    public <T> Node<T> add(String name, Duration timeout, Supplier<T> task) {
+        return add(name, timeout, results -> task.get());
+    }
+
+    public <T, D> Node<T> add(String name, Duration timeout, Node<D> dependency, Function<D, T> task) {
+        return add(name, timeout, results -> task.apply(results.get(dependency)), dependency);
+    }
+
+    public <T> Node<T> add(String name, Duration timeout, Function<Results, T> task, Node<?>... dependencies) {
+        CompletableFuture<?>[] upstream = new CompletableFuture<?>[dependencies.length];
+        for (int i = 0; i < dependencies.length; i++) {
+            upstream[i] = dependencies[i].future;
+        }
+
+        CompletableFuture<T> future = CompletableFuture.allOf(upstream)
+                .thenCompose(ignored -> CompletableFuture
+                        .supplyAsync(() -> task.apply(RESULTS), executor)
+                        .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS));
+        return new Node<>(name, future);
+    }
+
+    /**
+     * Waits for a node and rethrows its original failure.
+     */
+    public <T> T join(Node<T> node) {
+        try {
+            return node.future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = unwrap(e.getCause());
+            if (cause instanceof TimeoutException) throw new TaskTimeoutException(node.name);
+            if (cause instanceof RuntimeException re) throw re;
+            if (cause instanceof Error err) throw err;
+            throw new CompletionException(cause);
+        }
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        while (t instanceof CompletionException && t.getCause() != null) {
+            t = t.getCause();
+        }
+        return t;
+    }
+}
@@ -0,0 +1,112 @@
+package com.lolgg.service;
+
+/**
+ * Solo queue tier packed into one int: {@code division << 16 | leaguePoints}, where
+ * {@code division = tier * 4 + rank} (IRON = 1 … CHALLENGER = 10, IV = 0 … I = 3).
+ * Ordering codes orders players by rank, then LP.
+ * <p>
+ * {@link #UNRANKED} is 0 and {@link #UNKNOWN} (not looked up yet) is -1. Display strings
+ * ({@code "Gold 2"}, {@code "Master"}) are precomputed per division, so formatting never allocates.
+ */
+public final class TierCode {
+
+    public static final int UNKNOWN = -1;
+    public static final int UNRANKED = 0;
+
+    private static final String[] TIER_NAMES = {
+            null, "Iron", "Bronze", "Silver", "Gold", "Platinum", "Emerald",
+            "Diamond", "Master", "Grandmaster", "Challenger"
+    };
+    private static final int MIN_DIVISION = 4;
+    private static final int MAX_DIVISION = 10 * 4 + 3;
+    /** Master and above have no rank subdivisions. */
+    private static final int MASTER = 8;
+
+    private static final String[] DISPLAY = new String[MAX_DIVISION + 1];
+
+    static {
+        for (int division = MIN_DIVISION; division <= MAX_DIVISION; division++) {
+            int tier = division >> 2;
+            DISPLAY[division] = tier >= MASTER
+                    ? TIER_NAMES[tier]
+                    : TIER_NAMES[tier] + " " + (4 - (division & 3));
+        }
+    }
+
+    private TierCode() {}
+
+    /**
+     * @return the packed code, or {@link #UNRANKED} if {@code tier} or {@code rank} isn't recognized
+     */
+    public static int of(String tier, String rank, int leaguePoints) {
+        int t = tierIndex(tier);
+        int r = rankIndex(rank);
+        if (t == 0 || r < 0) return UNRANKED;
+        return (t << 2 | r) << 16 | Math.min(Math.max(leaguePoints, 0), 0xFFFF);
+    }
+
+    public static int division(int code) {
+        return Math.max(code, 0) >>> 16;
+    }
+
+    public static int leaguePoints(int code) {
+        return Math.max(code, 0) & 0xFFFF;
+    }
+
+    /**
+     * @return e.g. {@code "Gold 2"}, or null for unranked and unknown codes
+     */
+    public static String display(int code) {
+        return displayDivision(division(code));
+    }
+
+    /**
+     * 1 for a ranked division, 0 for unranked/unknown, without branching.
+     */
+    public static int rankedCount(int division) {
+        return -division >>> 31;
+    }
+
+    /**
+     * Rounded average of {@code ranked} divisions summing to {@code divisionSum}.
+     *
+     * @return display string of the average, or null if none is ranked
+     */
+    public static String average(int divisionSum, int ranked) {
+        if (ranked == 0) return null;
+        int avg = Math.round((float) divisionSum / ranked);
+        return displayDivision(Math.min(Math.max(avg, MIN_DIVISION), MAX_DIVISION));
+    }
+
+    private static String displayDivision(int division) {
+        return division >= MIN_DIVISION && division <= MAX_DIVISION ? DISPLAY[division] : null;
+    }
+
+    private static int tierIndex(String tier) {
+        if (tier == null) return 0;
+        return switch (tier) {
+            case "IRON" -> 1;
+            case "BRONZE" -> 2;
+            case "SILVER" -> 3;
+            case "GOLD" -> 4;
+            case "PLATINUM" -> 5;
+            case "EMERALD" -> 6;
+            case "DIAMOND" -> 7;
+            case "MASTER" -> 8;
+            case "GRANDMASTER" -> 9;
+            case "CHALLENGER" -> 10;
+            default -> 0;
+        };
+    }
+
+    private static int rankIndex(String rank) {
+        if (rank == null) return -1;
+        return switch (rank) {
+            case "IV" -> 0;
+            case "III" -> 1;
+            case "II" -> 2;
+            case "I" -> 3;
+            default -> -1;
+        };
+    }
+}
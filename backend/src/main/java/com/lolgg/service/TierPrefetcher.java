@@ -0,0 +1,134 @@
+package com.lolgg.service;
+
+import com.lolgg.cache.TierCache;
+import com.lolgg.client.RiotEndpoint;
+import com.lolgg.client.RiotRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Warms {@link TierCache} for match participants in the background, so most tiers are
+ * already cached by the time the frontend asks for them.
+ * <p>
+ * The queue holds at most {@code capacity} distinct puuids; offers beyond that are dropped.
+ * Lower {@code priority} values are loaded first, ties in arrival order. The worker only
+ * starts a league-v4 call while at least {@code reserve} of the league budget is free, so
+ * interactive requests never wait behind prefetching. The worker has no request context, so its
+ * calls are also scheduled as {@link com.lolgg.client.RiotPriority#BACKGROUND_SYNC}.
+ */
+@Component
+public class TierPrefetcher {
+
+    private static final Logger log = LoggerFactory.getLogger(TierPrefetcher.class);
+
+    private static final long BUDGET_POLL_MS = 250;
+
+    private record Task(String puuid, int priority, long seq) {}
+
+    private static final Comparator<Task> ORDER = Comparator.comparingInt(Task::priority)
+            .thenComparingLong(Task::seq);
+
+    private final TierCache tierCache;
+    private final RiotRateLimiter rateLimiter;
+    private final String leagueHost;
+    private final boolean enabled;
+    private final int capacity;
+    private final double reserve;
+    private final Semaphore inFlight;
+
+    private final PriorityBlockingQueue<Task> queue = new PriorityBlockingQueue<>(64, ORDER);
+    private final Set<String> queued = ConcurrentHashMap.newKeySet();
+    private final AtomicLong seq = new AtomicLong();
+    private final Counter dropped;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public TierPrefetcher(TierCache tierCache,
+                          RiotRateLimiter rateLimiter,
+                          MeterRegistry meterRegistry,
+                          @Value("${riot.api.kr-url}") String krUrl,
+                          @Value("${riot.tier-prefetch.enabled:true}") boolean enabled,
+                          @Value("${riot.tier-prefetch.capacity:2000}") int capacity,
+                          @Value("${riot.tier-prefetch.concurrency:4}") int concurrency,
+                          @Value("${riot.tier-prefetch.reserve:0.5}") double reserve) {
+        this.tierCache = tierCache;
+        this.rateLimiter = rateLimiter;
+        this.leagueHost = URI.create(krUrl).getHost();
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.reserve = reserve;
+        this.inFlight = new Semaphore(concurrency);
+        this.dropped = meterRegistry.counter("tier.prefetch.dropped");
+        meterRegistry.gauge("tier.prefetch.queued", queued, Set::size);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) return;
+        running = true;
+        worker = Thread.ofVirtual().name("tier-prefetch").start(this::run);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (worker != null) worker.interrupt();
+    }
+
+    /**
+     * Queues {@code puuid} unless it is already cached, already queued, or the queue is full.
+     */
+    public void enqueue(String puuid, int priority) {
+        if (!running || tierCache.getIfPresent(puuid) != TierCode.UNKNOWN) return;
+        if (queued.size() >= capacity) {
+            dropped.increment();
+            return;
+        }
+        if (queued.add(puuid)) {
+            queue.offer(new Task(puuid, priority, seq.getAndIncrement()));
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                Task task = queue.take();
+                queued.remove(task.puuid());
+                if (tierCache.getIfPresent(task.puuid()) != TierCode.UNKNOWN) continue;
+
+                awaitBudget();
+                inFlight.acquire();
+                tierCache.get(task.puuid()).whenComplete((tier, e) -> {
+                    inFlight.release();
+                    if (e != null) log.debug("Tier prefetch failed for {}: {}", task.puuid(), e.getMessage());
+                });
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Tier prefetch worker error", e);
+            }
+        }
+    }
+
+    private void awaitBudget() throws InterruptedException {
+        while (rateLimiter.headroom(leagueHost, RiotEndpoint.LEAGUE_ENTRIES_BY_PUUID) < reserve) {
+            TimeUnit.MILLISECONDS.sleep(BUDGET_POLL_MS);
+        }
+    }
+}
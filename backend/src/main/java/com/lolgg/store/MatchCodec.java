@@ -0,0 +1,193 @@
+package com.lolgg.store;
+
+import com.lolgg.dto.riot.MatchDto;
+import com.lolgg.dto.riot.MatchParticipantDto;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary encoding of {@link MatchDto}. Field order is fixed, so any change
+ * to the DTOs must bump {@link #VERSION}; records with another version are treated as misses.
+ */
+public final class MatchCodec {
+
+    static final byte VERSION = 1;
+
+    private MatchCodec() {}
+
+    public static byte[] encode(MatchDto match) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+
+            MatchDto.MetadataDto metadata = match.metadata();
+            writeString(out, metadata.matchId());
+            writeStrings(out, metadata.participants());
+
+            MatchDto.InfoDto info = match.info();
+            out.writeLong(info.gameCreation());
+            out.writeLong(info.gameDuration());
+            out.writeLong(info.gameEndTimestamp());
+            writeString(out, info.gameMode());
+            writeString(out, info.gameType());
+            out.writeInt(info.queueId());
+
+            List<MatchParticipantDto> participants = info.participants();
+            out.writeShort(participants.size());
+            for (MatchParticipantDto p : participants) {
+                writeParticipant(out, p);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @return the decoded match, or null if the record was written with another codec version
+     */
+    public static MatchDto decode(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (in.readByte() != VERSION) return null;
+
+            MatchDto.MetadataDto metadata = new MatchDto.MetadataDto(readString(in), readStrings(in));
+
+            long gameCreation = in.readLong();
+            long gameDuration = in.readLong();
+            long gameEndTimestamp = in.readLong();
+            String gameMode = readString(in);
+            String gameType = readString(in);
+            int queueId = in.readInt();
+
+            int size = in.readUnsignedShort();
+            List<MatchParticipantDto> participants = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                participants.add(readParticipant(in));
+            }
+
+            return new MatchDto(metadata, new MatchDto.InfoDto(
+                    gameCreation, gameDuration, gameEndTimestamp, gameMode, gameType, queueId, participants));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeParticipant(DataOutputStream out, MatchParticipantDto p) throws IOException {
+        writeString(out, p.puuid());
+        writeString(out, p.summonerName());
+        writeString(out, p.riotIdGameName());
+        writeString(out, p.riotIdTagline());
+        writeString(out, p.championName());
+        out.writeInt(p.championId());
+        out.writeInt(p.champLevel());
+        out.writeInt(p.kills());
+        out.writeInt(p.deaths());
+        out.writeInt(p.assists());
+        out.writeInt(p.totalMinionsKilled());
+        out.writeInt(p.neutralMinionsKilled());
+        out.writeInt(p.goldEarned());
+        out.writeInt(p.totalDamageDealtToChampions());
+        out.writeInt(p.visionScore());
+        out.writeInt(p.item0());
+        out.writeInt(p.item1());
+        out.writeInt(p.item2());
+        out.writeInt(p.item3());
+        out.writeInt(p.item4());
+        out.writeInt(p.item5());
+        out.writeInt(p.item6());
+        out.writeInt(p.summoner1Id());
+        out.writeInt(p.summoner2Id());
+        out.writeBoolean(p.win());
+        writeString(out, p.teamPosition());
+        out.writeInt(p.teamId());
+
+        MatchParticipantDto.ChallengesDto c = p.challenges();
+        out.writeBoolean(c != null);
+        if (c != null) {
+            out.writeDouble(c.killParticipation());
+            out.writeDouble(c.goldPerMinute());
+            out.writeInt(c.laneMinionsFirst10Minutes());
+            out.writeDouble(c.maxCsAdvantageOnLaneOpponent());
+            out.writeInt(c.earlyLaningPhaseGoldExpAdvantage());
+            out.writeInt(c.laningPhaseGoldExpAdvantage());
+        }
+    }
+
+    private static MatchParticipantDto readParticipant(DataInputStream in) throws IOException {
+        String puuid = readString(in);
+        String summonerName = readString(in);
+        String riotIdGameName = readString(in);
+        String riotIdTagline = readString(in);
+        String championName = readString(in);
+        int championId = in.readInt();
+        int champLevel = in.readInt();
+        int kills = in.readInt();
+        int deaths = in.readInt();
+        int assists = in.readInt();
+        int totalMinionsKilled = in.readInt();
+        int neutralMinionsKilled = in.readInt();
+        int goldEarned = in.readInt();
+        int totalDamageDealtToChampions = in.readInt();
+        int visionScore = in.readInt();
+        int item0 = in.readInt();
+        int item1 = in.readInt();
+        int item2 = in.readInt();
+        int item3 = in.readInt();
+        int item4 = in.readInt();
+        int item5 = in.readInt();
+        int item6 = in.readInt();
+        int summoner1Id = in.readInt();
+        int summoner2Id = in.readInt();
+        boolean win = in.readBoolean();
+        String teamPosition = readString(in);
+        int teamId = in.readInt();
+
+        MatchParticipantDto.ChallengesDto challenges = null;
+        if (in.readBoolean()) {
+            challenges = new MatchParticipantDto.ChallengesDto(
+                    in.readDouble(), in.readDouble(), in.readInt(),
+                    in.readDouble(), in.readInt(), in.readInt());
+        }
+
+        return new MatchParticipantDto(
+                puuid, summonerName, riotIdGameName, riotIdTagline, championName,
+                championId, champLevel, kills, deaths, assists,
+                totalMinionsKilled, neutralMinionsKilled, goldEarned,
+                totalDamageDealtToChampions, visionScore,
+                item0, item1, item2, item3, item4, item5, item6,
+                summoner1Id, summoner2Id, win, teamPosition, teamId, challenges);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) out.writeUTF(value);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeStrings(DataOutputStream out, List<String> values) throws IOException {
+        int size = values != null ? values.size() : 0;
+        out.writeShort(size);
+        for (int i = 0; i < size; i++) {
+            writeString(out, values.get(i));
+        }
+    }
+
+    private static List<String> readStrings(DataInputStream in) throws IOException {
+        int size = in.readUnsignedShort();
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+}
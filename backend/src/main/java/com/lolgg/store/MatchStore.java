@@ -0,0 +1,304 @@
+package com.lolgg.store;
+
+import com.lolgg.dto.riot.MatchDto;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Write-once store for finished matches, backed by an append-only segment file.
+ * <p>
+ * Record layout: {@code [int keyLength][int payloadLength][int crc32][key][payload]}.
+ * The in-memory index (match ID → record position) is rebuilt on startup by scanning
+ * the segment; a torn record at the tail is truncated away. A corrupt record further in
+ * is skipped up to the next valid record and counted, so later matches survive it.
+ * <p>
+ * File I/O is shielded from caller interrupts: an interrupt during a read or write closes a
+ * {@link FileChannel} for every thread, so the channel is reopened and the operation retried.
+ */
+@Component
+public class MatchStore {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchStore.class);
+
+    private static final int HEADER_BYTES = 12;
+    private static final int MAX_KEY_BYTES = 256;
+    private static final int SCAN_WINDOW_BYTES = 64 * 1024;
+
+    private record Slot(long position, int keyLength, int payloadLength) {
+
+        long end() {
+            return position + HEADER_BYTES + keyLength + payloadLength;
+        }
+    }
+
+    private final Map<String, Slot> index = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final ReentrantLock reopenLock = new ReentrantLock();
+    private final Path path;
+    private volatile FileChannel channel;
+    private volatile boolean closed;
+    private long writePosition;
+    private int corruptRecords;
+
+    private interface ChannelIo {
+        void run(FileChannel channel) throws IOException;
+    }
+
+    public MatchStore(@Value("${riot.match-store.path:data/match-store.seg}") Path path) {
+        this.path = path;
+        try {
+            if (path.getParent() != null) Files.createDirectories(path.getParent());
+            this.channel = open(path);
+            this.writePosition = recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open match store: " + path, e);
+        }
+        log.info("Match store opened: {} ({} matches)", path, index.size());
+    }
+
+    public Optional<MatchDto> get(String matchId) {
+        MatchDto match = read(matchId);
+        (match != null ? hits : misses).increment();
+        return Optional.ofNullable(match);
+    }
+
+    /**
+     * Like {@link #get}, but not counted in the hit/miss metrics; for internal lookups
+     * that aren't serving a match.
+     */
+    public Optional<MatchDto> peek(String matchId) {
+        return Optional.ofNullable(read(matchId));
+    }
+
+    /**
+     * Appends a finished match. Matches already in the store are left untouched.
+     */
+    public void put(MatchDto match) {
+        String matchId = match.metadata().matchId();
+        if (index.containsKey(matchId)) return;
+
+        byte[] key = matchId.getBytes(StandardCharsets.UTF_8);
+        byte[] payload = MatchCodec.encode(match);
+        CRC32 crc = new CRC32();
+        crc.update(key);
+        crc.update(payload);
+
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + key.length + payload.length)
+                .putInt(key.length)
+                .putInt(payload.length)
+                .putInt((int) crc.getValue())
+                .put(key)
+                .put(payload)
+                .flip();
+
+        writeLock.lock();
+        try {
+            if (index.containsKey(matchId)) return;
+            long position = writePosition;
+            withChannel(ch -> {
+                while (record.hasRemaining()) {
+                    ch.write(record, position + record.position());
+                }
+            });
+            writePosition = position + record.limit();
+            index.put(matchId, new Slot(position, key.length, payload.length));
+        } catch (IOException e) {
+            log.warn("Failed to append match {} to store - {}", matchId, e.getMessage());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * @return corrupt records skipped while rebuilding the index on startup
+     */
+    public int corruptCount() {
+        return corruptRecords;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        writeLock.lock();
+        try {
+            closed = true;
+            channel.force(true);
+            channel.close();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private long recover() throws IOException {
+        long size = channel.size();
+        long position = 0;
+
+        while (position < size) {
+            Slot slot = readSlot(position, size);
+            if (slot != null) {
+                position = slot.end();
+                continue;
+            }
+            long next = findNextRecord(position + 1, size);
+            if (next < 0) break;
+            corruptRecords++;
+            log.warn("Skipping {} bytes of corrupt data at offset {} in match store", next - position, position);
+            position = next;
+        }
+
+        if (position < size) {
+            log.warn("Truncating {} bytes of incomplete data from match store", size - position);
+            channel.truncate(position);
+        }
+        return position;
+    }
+
+    /**
+     * Validates the record at {@code position} and indexes it.
+     *
+     * @return its slot, or null if there is no intact record there
+     */
+    private Slot readSlot(long position, long size) throws IOException {
+        if (position + HEADER_BYTES > size) return null;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        readFully(header, position);
+        header.flip();
+        int keyLength = header.getInt();
+        int payloadLength = header.getInt();
+        int expectedCrc = header.getInt();
+        if (keyLength <= 0 || payloadLength <= 0
+                || position + HEADER_BYTES + keyLength + payloadLength > size) {
+            return null;
+        }
+
+        ByteBuffer body = ByteBuffer.allocate(keyLength + payloadLength);
+        readFully(body, position + HEADER_BYTES);
+        CRC32 crc = new CRC32();
+        crc.update(body.array());
+        if ((int) crc.getValue() != expectedCrc) return null;
+
+        Slot slot = new Slot(position, keyLength, payloadLength);
+        index.putIfAbsent(new String(body.array(), 0, keyLength, StandardCharsets.UTF_8), slot);
+        return slot;
+    }
+
+    /**
+     * Scans forward for the next offset holding an intact record. Headers are screened in
+     * memory first, so only plausible candidates pay for a CRC check.
+     *
+     * @return its position, or -1 if the rest of the segment holds none
+     */
+    private long findNextRecord(long from, long size) throws IOException {
+        ByteBuffer window = ByteBuffer.allocate(SCAN_WINDOW_BYTES);
+        long base = from;
+        while (base + HEADER_BYTES <= size) {
+            window.clear().limit((int) Math.min(SCAN_WINDOW_BYTES, size - base));
+            readFully(window, base);
+            for (int i = 0; i + HEADER_BYTES <= window.limit(); i++) {
+                int keyLength = window.getInt(i);
+                int payloadLength = window.getInt(i + 4);
+                if (keyLength > 0 && keyLength <= MAX_KEY_BYTES && payloadLength > 0
+                        && base + i + HEADER_BYTES + keyLength + payloadLength <= size
+                        && readSlot(base + i, size) != null) {
+                    return base + i;
+                }
+            }
+            base += window.limit() - HEADER_BYTES + 1;
+        }
+        return -1;
+    }
+
+    private MatchDto read(String matchId) {
+        Slot slot = index.get(matchId);
+        if (slot == null) return null;
+        try {
+            ByteBuffer payload = ByteBuffer.allocate(slot.payloadLength());
+            readFully(payload, slot.position() + HEADER_BYTES + slot.keyLength());
+            return MatchCodec.decode(payload.array());
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Failed to read match {} from store - {}", matchId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        withChannel(ch -> {
+            while (buffer.hasRemaining()) {
+                int read = ch.read(buffer, position + buffer.position());
+                if (read < 0) throw new IOException("Unexpected end of match store");
+            }
+        });
+    }
+
+    /**
+     * Runs positional I/O with the caller's interrupt status cleared (and restored afterwards),
+     * reopening the channel once if it was closed by an interrupt on this or another thread.
+     * {@code io} must resume from its buffer's position, since a retry continues a partial transfer.
+     */
+    private void withChannel(ChannelIo io) throws IOException {
+        boolean interrupted = Thread.interrupted();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                FileChannel current = channel;
+                try {
+                    io.run(current);
+                    return;
+                } catch (ClosedChannelException e) {
+                    if (closed || attempt > 1) throw e;
+                    interrupted |= Thread.interrupted();
+                    reopen(current);
+                }
+            }
+        } finally {
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+    }
+
+    private void reopen(FileChannel stale) throws IOException {
+        reopenLock.lock();
+        try {
+            if (channel == stale && !closed) {
+                log.warn("Match store channel was closed by an interrupt, reopening {}", path);
+                channel = open(path);
+            }
+        } finally {
+            reopenLock.unlock();
+        }
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+}
@@ -0,0 +1,75 @@
+package com.lolgg.client;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private static final long OPEN_MILLIS = 10_000;
+
+    private final CircuitBreaker breaker = new CircuitBreaker(4, 4, 0.5, OPEN_MILLIS);
+
+    @Test
+    void opensOnceTheFailureRateIsReached() {
+        breaker.onSuccess();
+        breaker.onSuccess();
+        breaker.onFailure(0);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        breaker.onFailure(0);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire(1_000)).isEqualTo(OPEN_MILLIS - 1_000);
+    }
+
+    @Test
+    void halfOpenLetsOnlyOneProbeThrough() {
+        open();
+
+        assertThat(breaker.tryAcquire(OPEN_MILLIS)).isZero();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire(OPEN_MILLIS)).isPositive();
+        assertThat(breaker.tryAcquire(OPEN_MILLIS + 500)).isPositive();
+    }
+
+    @Test
+    void successfulProbeClosesTheCircuit() {
+        open();
+        breaker.tryAcquire(OPEN_MILLIS);
+
+        breaker.onSuccess();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire(OPEN_MILLIS)).isZero();
+        assertThat(breaker.tryAcquire(OPEN_MILLIS)).isZero();
+    }
+
+    @Test
+    void failedProbeReopensForAnotherFullPeriod() {
+        open();
+        breaker.tryAcquire(OPEN_MILLIS);
+
+        breaker.onFailure(OPEN_MILLIS);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire(OPEN_MILLIS + 1)).isEqualTo(OPEN_MILLIS - 1);
+    }
+
+    @Test
+    void skippedProbeFreesTheSlotForAnother() {
+        open();
+        breaker.tryAcquire(OPEN_MILLIS);
+
+        breaker.onSkipped();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire(OPEN_MILLIS)).isZero();
+        assertThat(breaker.tryAcquire(OPEN_MILLIS)).isPositive();
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) breaker.onFailure(0);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
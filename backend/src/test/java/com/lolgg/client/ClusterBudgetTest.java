@@ -0,0 +1,79 @@
+package com.lolgg.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Leases against the in-memory store with an explicit clock; the window is 50 calls per second,
+ * so each lease is a batch of 5.
+ */
+class ClusterBudgetTest {
+
+    private static final long WINDOW_START = 1_700_000_000_000L;
+    private static final List<RateLimitStore.Window> WINDOWS = List.of(new RateLimitStore.Window(50, 1000, 0));
+
+    private final String scope = "test-" + UUID.randomUUID();
+    private final AtomicInteger reserves = new AtomicInteger();
+    private final RateLimitStore store = new RateLimitStore() {
+        private final InMemoryRateLimitStore delegate = new InMemoryRateLimitStore();
+
+        @Override
+        public long reserve(String scope, List<Window> windows, int requested, long now) {
+            reserves.incrementAndGet();
+            return delegate.reserve(scope, windows, requested, now);
+        }
+
+        @Override
+        public void block(String scope, long untilMillis) {
+            delegate.block(scope, untilMillis);
+        }
+    };
+
+    @Test
+    void givenBackTokenIsServedFromTheLease() {
+        ClusterBudget budget = new ClusterBudget(store, 5);
+        assertThat(budget.take(scope, WINDOWS, WINDOW_START)).isZero();
+        budget.giveBack(scope, WINDOW_START + 10);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(budget.take(scope, WINDOWS, WINDOW_START + 20)).isZero();
+        }
+        assertThat(reserves).hasValue(1);
+
+        assertThat(budget.take(scope, WINDOWS, WINDOW_START + 30)).isZero();
+        assertThat(reserves).hasValue(2);
+    }
+
+    @Test
+    void leftoverTokensLapseAtTheWindowBoundary() {
+        ClusterBudget budget = new ClusterBudget(store, 5);
+        assertThat(budget.take(scope, WINDOWS, WINDOW_START + 999)).isZero();
+
+        budget.giveBack(scope, WINDOW_START + 1000);
+        assertThat(budget.take(scope, WINDOWS, WINDOW_START + 1000)).isZero();
+
+        assertThat(reserves).hasValue(2);
+    }
+
+    @Test
+    void exhaustedWindowRefillsForBothNodesWhenTheNextOneStarts() {
+        ClusterBudget first = new ClusterBudget(store, 5);
+        ClusterBudget second = new ClusterBudget(store, 5);
+        int taken = 0;
+        for (int i = 0; i < 40; i++) {
+            if (first.take(scope, WINDOWS, WINDOW_START + 100) == 0) taken++;
+            if (second.take(scope, WINDOWS, WINDOW_START + 100) == 0) taken++;
+        }
+        assertThat(taken).isEqualTo(50);
+        assertThat(first.take(scope, WINDOWS, WINDOW_START + 400)).isEqualTo(600);
+        assertThat(second.take(scope, WINDOWS, WINDOW_START + 400)).isEqualTo(600);
+
+        assertThat(first.take(scope, WINDOWS, WINDOW_START + 1000)).isZero();
+        assertThat(second.take(scope, WINDOWS, WINDOW_START + 1000)).isZero();
+    }
+}
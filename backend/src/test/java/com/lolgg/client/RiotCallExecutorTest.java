@@ -0,0 +1,130 @@
+package com.lolgg.client;
+
+import com.lolgg.config.RiotResilienceProperties;
+import com.lolgg.config.RiotSchedulerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RiotCallExecutorTest {
+
+    private final ExecutorService riotExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final RiotRateLimiter rateLimiter = mock(RiotRateLimiter.class);
+
+    @AfterEach
+    void shutDown() {
+        riotExecutor.shutdownNow();
+    }
+
+    @Test
+    void retryBackoffGivesTheBulkheadPermitBack() throws Exception {
+        RiotCallExecutor executor = executor(Duration.ZERO);
+        CountDownLatch throttled = new CountDownLatch(1);
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<String> retrying = CompletableFuture.supplyAsync(() -> tiers(executor, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throttled.countDown();
+                throw tooManyRequests(1);
+            }
+            return "retried";
+        }), riotExecutor);
+        assertThat(throttled.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // The single tier permit is free while the first call sleeps out its Retry-After
+        assertThat(tiers(executor, () -> "other")).isEqualTo("other");
+        assertThat(retrying).isNotDone();
+        assertThat(retrying.get(5, TimeUnit.SECONDS)).isEqualTo("retried");
+    }
+
+    @Test
+    void hedgeWinsWhenThePrimaryIsSlow() {
+        RiotCallExecutor executor = executor(Duration.ofMillis(50));
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = hedged(executor, () -> calls.incrementAndGet() == 1 ? sleepThen(2_000, "primary") : "hedge");
+
+        assertThat(result).isEqualTo("hedge");
+    }
+
+    @Test
+    void failedAttemptDoesNotWinOverASlowerSuccess() {
+        RiotCallExecutor executor = executor(Duration.ofMillis(50));
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = hedged(executor, () -> {
+            if (calls.incrementAndGet() == 1) {
+                sleepThen(100, null);
+                throw badRequest();
+            }
+            return sleepThen(300, "hedge");
+        });
+
+        assertThat(result).isEqualTo("hedge");
+    }
+
+    @Test
+    void hedgedCallFailsOnlyWhenBothAttemptsFail() {
+        RiotCallExecutor executor = executor(Duration.ofMillis(50));
+
+        assertThatThrownBy(() -> hedged(executor, () -> {
+            sleepThen(100, null);
+            throw badRequest();
+        })).isInstanceOf(HttpClientErrorException.BadRequest.class);
+    }
+
+    private RiotCallExecutor executor(Duration hedgeDelay) {
+        when(rateLimiter.headroom(any(), any())).thenReturn(1.0);
+        RiotResilienceProperties properties = new RiotResilienceProperties(2, Duration.ofMillis(10),
+                Duration.ofMillis(10), Duration.ofSeconds(3), 20, 10, 0.5, Duration.ofSeconds(10),
+                hedgeDelay, Duration.ofMillis(500), Map.of(RiotBulkhead.TIERS, 1));
+        RiotSchedulerProperties scheduler = new RiotSchedulerProperties(16, null, null);
+        return new RiotCallExecutor(properties, scheduler, rateLimiter, riotExecutor, new SimpleMeterRegistry(),
+                "http://asia.test", "http://kr.test");
+    }
+
+    private static String tiers(RiotCallExecutor executor, Supplier<String> call) {
+        return executor.call(RiotRoute.KR, RiotEndpoint.LEAGUE_ENTRIES_BY_PUUID, RiotBulkhead.TIERS, call);
+    }
+
+    private static String hedged(RiotCallExecutor executor, Supplier<String> call) {
+        return executor.hedged(RiotRoute.ASIA, RiotEndpoint.MATCH_BY_ID, RiotBulkhead.MATCHES, call);
+    }
+
+    private static HttpClientErrorException tooManyRequests(int retryAfterSeconds) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers, new byte[0], null);
+    }
+
+    private static HttpClientErrorException badRequest() {
+        return HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", new HttpHeaders(), new byte[0], null);
+    }
+
+    private static String sleepThen(long millis, String value) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
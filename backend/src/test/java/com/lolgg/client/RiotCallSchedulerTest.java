@@ -0,0 +1,144 @@
+package com.lolgg.client;
+
+import com.lolgg.exception.RiotUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.ToLongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * One slot, held by the test while waiters queue up; releasing it lets the queue drain one call
+ * at a time, so the recorded grant order is the scheduler's order.
+ */
+class RiotCallSchedulerTest {
+
+    private final ExecutorService threads = Executors.newCachedThreadPool();
+    private final List<String> granted = new CopyOnWriteArrayList<>();
+    private final List<CompletableFuture<Void>> calls = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void shutDown() {
+        threads.shutdownNow();
+    }
+
+    @Test
+    void moreUrgentClassIsAdmittedFirst() throws Exception {
+        RiotCallScheduler scheduler = scheduler(RiotPriority::defaultMaxWaitMillis);
+        scheduler.acquire(RiotCallContext.BACKGROUND);
+        for (int i = 1; i <= 3; i++) call(scheduler, "sync" + i, new RiotCallContext(RiotPriority.BACKGROUND_SYNC, "bg"));
+        for (int i = 1; i <= 3; i++) call(scheduler, "profile" + i, new RiotCallContext(RiotPriority.INTERACTIVE_PROFILE, "a"));
+
+        scheduler.release();
+        awaitCalls();
+
+        assertThat(granted).containsExactly("profile1", "profile2", "profile3", "sync1", "sync2", "sync3");
+    }
+
+    @Test
+    void clientsInTheSameClassTakeTurns() throws Exception {
+        RiotCallScheduler scheduler = scheduler(RiotPriority::defaultMaxWaitMillis);
+        scheduler.acquire(RiotCallContext.BACKGROUND);
+        for (int i = 1; i <= 3; i++) call(scheduler, "a" + i, new RiotCallContext(RiotPriority.MATCH_PAGE, "10.0.0.1"));
+        for (int i = 1; i <= 3; i++) call(scheduler, "b" + i, new RiotCallContext(RiotPriority.MATCH_PAGE, "10.0.0.2"));
+
+        scheduler.release();
+        awaitCalls();
+
+        assertThat(granted).containsExactly("a1", "b1", "a2", "b2", "a3", "b3");
+    }
+
+    @Test
+    void staleBackgroundCallsAreDroppedWithoutTakingASlot() throws Exception {
+        RiotCallScheduler scheduler = scheduler(p -> p == RiotPriority.INTERACTIVE_PROFILE ? 5000 : 300);
+        scheduler.acquire(RiotCallContext.BACKGROUND);
+        CompletableFuture<Void> sync = call(scheduler, "sync", new RiotCallContext(RiotPriority.BACKGROUND_SYNC, "bg"));
+        CompletableFuture<Void> prefetch = call(scheduler, "prefetch", new RiotCallContext(RiotPriority.TIER_PREFETCH, "bg"));
+        call(scheduler, "profile", new RiotCallContext(RiotPriority.INTERACTIVE_PROFILE, "a"));
+
+        assertDropped(sync);
+        assertDropped(prefetch);
+        assertThat(scheduler.queued()).isEqualTo(1);
+
+        scheduler.release();
+        calls.get(2).get(5, TimeUnit.SECONDS);
+        assertThat(granted).containsExactly("profile");
+    }
+
+    @Test
+    void raisingASharedLoadMovesItsQueuedCallAhead() throws Exception {
+        RiotCallScheduler scheduler = scheduler(RiotPriority::defaultMaxWaitMillis);
+        scheduler.acquire(RiotCallContext.BACKGROUND);
+        for (int i = 1; i <= 3; i++) call(scheduler, "prefetch" + i, new RiotCallContext(RiotPriority.TIER_PREFETCH, "bg"));
+        SharedCallPriority shared = new SharedCallPriority(RiotPriority.TIER_PREFETCH);
+        call(scheduler, "load", new RiotCallContext(RiotPriority.TIER_PREFETCH, "loader", shared));
+
+        shared.raise(RiotPriority.INTERACTIVE_PROFILE);
+        scheduler.release();
+        awaitCalls();
+
+        assertThat(granted).containsExactly("load", "prefetch1", "prefetch2", "prefetch3");
+    }
+
+    @Test
+    void raisedCallWaitsUnderTheNewClassDeadline() throws Exception {
+        RiotCallScheduler scheduler = scheduler(p -> p == RiotPriority.INTERACTIVE_PROFILE ? 5000 : 300);
+        scheduler.acquire(RiotCallContext.BACKGROUND);
+        SharedCallPriority shared = new SharedCallPriority(RiotPriority.TIER_PREFETCH);
+        call(scheduler, "load", new RiotCallContext(RiotPriority.TIER_PREFETCH, "loader", shared));
+
+        shared.raise(RiotPriority.INTERACTIVE_PROFILE);
+        Thread.sleep(600);
+        scheduler.release();
+        awaitCalls();
+
+        assertThat(granted).containsExactly("load");
+    }
+
+    private static RiotCallScheduler scheduler(ToLongFunction<RiotPriority> maxWaitMillis) {
+        return new RiotCallScheduler(1, RiotPriority::defaultWeight, maxWaitMillis);
+    }
+
+    /** Starts a call that records its label once admitted, and waits until it is queued. */
+    private CompletableFuture<Void> call(RiotCallScheduler scheduler, String label, RiotCallContext context) {
+        int queued = scheduler.queued();
+        CompletableFuture<Void> call = CompletableFuture.runAsync(() -> {
+            scheduler.acquire(context);
+            granted.add(label);
+            scheduler.release();
+        }, threads);
+        calls.add(call);
+        waitUntil(() -> scheduler.queued() > queued);
+        return call;
+    }
+
+    private void awaitCalls() throws Exception {
+        for (CompletableFuture<Void> call : calls) {
+            call.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void assertDropped(CompletableFuture<Void> call) {
+        assertThatThrownBy(() -> call.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RiotUnavailableException.class);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) throw new AssertionError("Timed out waiting for the scheduler");
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.lolgg.client;
+
+import com.lolgg.exception.RiotRateLimitException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two limiters on one {@link InMemoryRateLimitStore} stand in for two nodes on the same key. Each
+ * alone would allow the full limit, so together they could make twice as many calls without the
+ * shared budget. The window is a day long, so a run practically never straddles two windows.
+ */
+class RiotRateLimiterTest {
+
+    private static final String APP_LIMITS = "100:86400";
+
+    private final String host = "test-" + UUID.randomUUID();
+
+    @Test
+    void nodesTogetherStayWithinTheWindow() {
+        RiotRateLimiter first = limiter();
+        RiotRateLimiter second = limiter();
+
+        int allowed = 0;
+        for (int i = 0; i < 150; i++) {
+            if (tryAcquire(first)) allowed++;
+            if (tryAcquire(second)) allowed++;
+        }
+
+        assertThat(allowed).isEqualTo(100);
+    }
+
+    @Test
+    void concurrentNodesNeverExceedTheWindow() throws Exception {
+        List<RiotRateLimiter> nodes = List.of(limiter(), limiter(), limiter());
+        AtomicInteger allowed = new AtomicInteger();
+        List<CompletableFuture<Void>> callers = new ArrayList<>();
+        try (ExecutorService threads = Executors.newFixedThreadPool(12)) {
+            for (int t = 0; t < 12; t++) {
+                RiotRateLimiter node = nodes.get(t % nodes.size());
+                callers.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 50; i++) {
+                        if (tryAcquire(node)) allowed.incrementAndGet();
+                    }
+                }, threads));
+            }
+            CompletableFuture.allOf(callers.toArray(CompletableFuture[]::new)).get();
+        }
+
+        assertThat(allowed.get()).isPositive().isLessThanOrEqualTo(100);
+    }
+
+    private boolean tryAcquire(RiotRateLimiter limiter) {
+        try {
+            limiter.acquire(host, RiotEndpoint.MATCH_BY_ID);
+            return true;
+        } catch (RiotRateLimitException e) {
+            return false;
+        }
+    }
+
+    private static RiotRateLimiter limiter() {
+        ObjectProvider<RateLimitStore> store = new StaticListableBeanFactory(
+                Map.of("rateLimitStore", new InMemoryRateLimitStore())).getBeanProvider(RateLimitStore.class);
+        return new RiotRateLimiter(APP_LIMITS, 0, 5, store);
+    }
+}
@@ -0,0 +1,55 @@
+package com.lolgg.controller;
+
+import com.lolgg.config.CompactMatchHttpMessageConverter;
+import com.lolgg.service.SummonerAggregationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(MatchController.class)
+class MatchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SummonerAggregationService aggregationService;
+
+    @BeforeEach
+    void setUp() {
+        when(aggregationService.getMatches(anyString(), anyInt(), anyInt(), any(), any())).thenReturn(List.of());
+    }
+
+    @Test
+    void compactAcceptGetsCompactPage() throws Exception {
+        mockMvc.perform(get("/api/matches/puuid")
+                        .header("Accept", "application/vnd.lolgg.compact+json, application/json;q=0.9"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(CompactMatchHttpMessageConverter.COMPACT_JSON))
+                .andExpect(jsonPath("$.fields").isArray())
+                .andExpect(jsonPath("$.matches").isArray());
+    }
+
+    @Test
+    void wildcardAcceptGetsPlainJson() throws Exception {
+        mockMvc.perform(get("/api/matches/puuid").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$").isArray());
+    }
+}
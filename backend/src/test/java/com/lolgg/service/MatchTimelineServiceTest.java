@@ -0,0 +1,82 @@
+package com.lolgg.service;
+
+import com.lolgg.dto.riot.MatchDto;
+import com.lolgg.store.MatchStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MatchTimelineServiceTest {
+
+    private final RiotMatchService matchService = mock(RiotMatchService.class);
+    private final MatchStore matchStore = mock(MatchStore.class);
+
+    @Test
+    void headSyncOnEmptyHistoryRelistsFirstPage() {
+        when(matchService.getMatchIds(eq("puuid"), anyInt(), anyInt(), any(), any())).thenReturn(List.of());
+        when(matchService.getMatchIds(eq("puuid"), eq(0), anyInt(), any(), any(), isNull()))
+                .thenReturn(List.of("KR_2", "KR_1"));
+        MatchTimelineService timelines = new MatchTimelineService(matchService, matchStore, 100, 60, 0);
+
+        assertThat(timelines.getMatchIds("puuid", 0, 20, null, null)).isEmpty();
+        assertThat(timelines.getMatchIds("puuid", 0, 20, null, null)).containsExactly("KR_2", "KR_1");
+    }
+
+    @Test
+    void headSyncPagesBackUntilItReachesTheIndex() {
+        indexOldMatches();
+        when(matchService.getMatchIds(eq("puuid"), anyInt(), eq(100), any(), any(), eq(1_000L)))
+                .thenAnswer(call -> {
+                    int start = call.getArgument(1);
+                    return start == 0 ? newMatches(0, 100) : concat(newMatches(100, 30), List.of("KR_OLD2", "KR_OLD1"));
+                });
+        MatchTimelineService timelines = new MatchTimelineService(matchService, matchStore, 100, 60, 0);
+
+        timelines.getMatchIds("puuid", 0, 20, null, null);
+        List<String> ids = timelines.getMatchIds("puuid", 0, 200, null, null);
+
+        assertThat(ids).hasSize(132).startsWith("KR_NEW0").endsWith("KR_NEW129", "KR_OLD2", "KR_OLD1");
+    }
+
+    @Test
+    void headSyncWithoutOverlapRebuildsIndexEvenWithStartTime() {
+        indexOldMatches();
+        when(matchService.getMatchIds(eq("puuid"), anyInt(), eq(100), any(), any(), eq(1_000L)))
+                .thenAnswer(call -> newMatches(call.getArgument(1), 100));
+        when(matchService.getMatchIds(eq("puuid"), eq(500), anyInt(), any(), any()))
+                .thenReturn(List.of("KR_OLD2", "KR_OLD1"));
+        MatchTimelineService timelines = new MatchTimelineService(matchService, matchStore, 100, 60, 0);
+
+        timelines.getMatchIds("puuid", 0, 20, null, null);
+        assertThat(timelines.getMatchIds("puuid", 0, 3, null, null)).containsExactly("KR_NEW0", "KR_NEW1", "KR_NEW2");
+        // The stale index is gone, so older pages continue right after the rebuilt head
+        assertThat(timelines.getMatchIds("puuid", 498, 10, null, null))
+                .containsExactly("KR_NEW498", "KR_NEW499", "KR_OLD2", "KR_OLD1");
+    }
+
+    private void indexOldMatches() {
+        when(matchService.getMatchIds(eq("puuid"), eq(0), anyInt(), any(), any()))
+                .thenReturn(List.of("KR_OLD2", "KR_OLD1"));
+        MatchDto.InfoDto info = new MatchDto.InfoDto(1_000_000L, 1800, 1_001_800L, "CLASSIC", "MATCHED_GAME", 420, List.of());
+        when(matchStore.peek("KR_OLD2")).thenReturn(Optional.of(new MatchDto(null, info)));
+    }
+
+    private static List<String> newMatches(int from, int count) {
+        return IntStream.range(from, from + count).mapToObj(i -> "KR_NEW" + i).toList();
+    }
+
+    private static List<String> concat(List<String> first, List<String> second) {
+        return Stream.concat(first.stream(), second.stream()).toList();
+    }
+}
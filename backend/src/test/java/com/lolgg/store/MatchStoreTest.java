@@ -0,0 +1,104 @@
+package com.lolgg.store;
+
+import com.lolgg.dto.riot.MatchDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void tornTailIsTruncated() throws IOException {
+        Path segment = dir.resolve("matches.seg");
+        MatchStore store = new MatchStore(segment);
+        store.put(match("KR_1"));
+        store.put(match("KR_2"));
+        store.close();
+        long intact = Files.size(segment);
+        Files.write(segment, new byte[]{0, 0, 0, 4, 0, 0, 1, 0, 7}, StandardOpenOption.APPEND);
+
+        MatchStore reopened = new MatchStore(segment);
+
+        assertThat(reopened.size()).isEqualTo(2);
+        assertThat(reopened.corruptCount()).isZero();
+        assertThat(Files.size(segment)).isEqualTo(intact);
+        reopened.close();
+    }
+
+    @Test
+    void corruptPayloadMidFileKeepsLaterRecords() throws IOException {
+        Path segment = dir.resolve("matches.seg");
+        long[] ends = writeThree(segment);
+        flipByte(segment, ends[1] - 1);
+
+        MatchStore reopened = new MatchStore(segment);
+
+        assertThat(reopened.peek("KR_1")).isPresent();
+        assertThat(reopened.peek("KR_2")).isEmpty();
+        assertThat(reopened.peek("KR_3")).isPresent();
+        assertThat(reopened.corruptCount()).isEqualTo(1);
+        assertThat(Files.size(segment)).isEqualTo(ends[2]);
+
+        reopened.put(match("KR_4"));
+        reopened.close();
+        MatchStore again = new MatchStore(segment);
+        assertThat(again.peek("KR_3")).isPresent();
+        assertThat(again.peek("KR_4")).isPresent();
+        again.close();
+    }
+
+    @Test
+    void corruptHeaderMidFileResyncsOnNextRecord() throws IOException {
+        Path segment = dir.resolve("matches.seg");
+        long[] ends = writeThree(segment);
+        flipByte(segment, ends[0]);
+
+        MatchStore reopened = new MatchStore(segment);
+
+        assertThat(reopened.peek("KR_1")).isPresent();
+        assertThat(reopened.peek("KR_2")).isEmpty();
+        assertThat(reopened.peek("KR_3")).isPresent();
+        assertThat(reopened.corruptCount()).isEqualTo(1);
+        reopened.close();
+    }
+
+    /**
+     * @return segment size after each of the three records
+     */
+    private static long[] writeThree(Path segment) throws IOException {
+        MatchStore store = new MatchStore(segment);
+        long[] ends = new long[3];
+        for (int i = 0; i < 3; i++) {
+            store.put(match("KR_" + (i + 1)));
+            ends[i] = Files.size(segment);
+        }
+        store.close();
+        return ends;
+    }
+
+    private static void flipByte(Path segment, long position) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(position);
+            int value = file.read();
+            file.seek(position);
+            file.write(value ^ 0x80);
+        }
+    }
+
+    private static MatchDto match(String matchId) {
+        return new MatchDto(
+                new MatchDto.MetadataDto(matchId, List.of("puuid-1", "puuid-2")),
+                new MatchDto.InfoDto(1_700_000_000_000L, 1800, 1_700_001_800_000L, "CLASSIC", "MATCHED_GAME", 420, List.of()));
+    }
+}
@@ -4,14 +4,100 @@ const api = axios.create({
   baseURL: '/api',
 })
 
-export function searchSummoner(gameName, tagLine) {
-  return api.get('/summoner', { params: { gameName, tagLine } })
+export function searchSummoner(gameName, tagLine, { force = false } = {}) {
+  const params = force ? { gameName, tagLine, force } : { gameName, tagLine }
+  return api.get('/summoner', { params })
 }
 
-export function getMatches(puuid, start = 0, count = 20, filter = {}) {
-  return api.get(`/matches/${puuid}`, { params: { start, count, ...filter } })
+// riotIds: [{ gameName, tagLine }]; each result carries its own status/error
+export function searchSummoners(riotIds, { includeMatches = false } = {}) {
+  return api.post('/summoner/batch', { riotIds, includeMatches })
+}
+
+export function getStats(puuid, queue) {
+  return api.get(`/stats/${puuid}`, { params: queue != null ? { queue } : {} })
+}
+
+const COMPACT_MATCHES = 'application/vnd.lolgg.compact+json'
+
+export async function getMatches(puuid, start = 0, count = 20, filter = {}) {
+  const res = await api.get(`/matches/${puuid}`, {
+    params: { start, count, ...filter },
+    headers: { Accept: `${COMPACT_MATCHES}, application/json;q=0.9` },
+  })
+  if (res.headers['content-type']?.startsWith(COMPACT_MATCHES)) {
+    res.data = expandMatchPage(res.data)
+  }
+  return res
+}
+
+// Rebuild the regular MatchResponse shape from the columnar page
+function expandMatchPage({ fields, matches }) {
+  return matches.map((m) => {
+    const participants = m.participants.map((row) => {
+      const p = {}
+      fields.forEach((field, i) => { p[field] = row[i] })
+      const team = m.teams[p.team]
+      p.teamId = team.teamId
+      p.win = team.win
+      p.items.forEach((item, i) => { p[`item${i}`] = item })
+      p.tier = p.tier || null
+      delete p.team
+      delete p.items
+      return p
+    })
+    return {
+      matchId: m.matchId,
+      gameDuration: m.gameDuration,
+      gameCreation: m.gameCreation,
+      gameMode: m.gameMode,
+      queueId: m.queueId,
+      averageTier: m.averageTier,
+      currentPlayer: m.currentPlayer >= 0 ? participants[m.currentPlayer] : null,
+      participants,
+    }
+  })
 }
 
 export function getTiers(puuids) {
   return api.post('/tiers', puuids)
 }
+
+/**
+ * POST /tiers/stream and report each SSE event as it arrives.
+ * Cached tiers arrive first; `averageTier` is the last event.
+ */
+export async function streamTiers(puuids, { onTier, onAverageTier } = {}) {
+  const res = await fetch('/api/tiers/stream', {
+    method: 'POST',
+    headers: { 'Content-Type': 'application/json', Accept: 'text/event-stream' },
+    body: JSON.stringify(puuids),
+  })
+  if (!res.ok || !res.body) throw new Error(`Tier stream failed: ${res.status}`)
+
+  const reader = res.body.pipeThrough(new TextDecoderStream()).getReader()
+  let buffer = ''
+  for (;;) {
+    const { value, done } = await reader.read()
+    if (done) break
+    buffer += value.replace(/\r\n/g, '\n')
+
+    let sep
+    while ((sep = buffer.indexOf('\n\n')) >= 0) {
+      const raw = buffer.slice(0, sep)
+      buffer = buffer.slice(sep + 2)
+
+      let event = 'message'
+      let data = ''
+      for (const line of raw.split('\n')) {
+        if (line.startsWith('event:')) event = line.slice(6).trim()
+        else if (line.startsWith('data:')) data += line.slice(5)
+      }
+      if (!data) continue
+
+      const payload = JSON.parse(data)
+      if (event === 'tier') onTier?.(payload.puuid, payload.tier)
+      else if (event === 'averageTier') onAverageTier?.(payload.averageTier)
+    }
+  }
+}